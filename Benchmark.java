@@ -1,5 +1,3 @@
-import java.lang.reflect.Method;
-
 public class Benchmark {
     private static final int[] SIZES = {1000, 5000, 20000};
     private static final int REPS = 200;
@@ -13,24 +11,15 @@ public class Benchmark {
             int midIndex = n / 2;
             NodeSL<Integer> midNode = nodeAt(list, midIndex);
 
-            Method addIndex = findAddIndexMethod(list);
-
             // Warmup
             runNodePair(list, midNode, 10);
-            if (addIndex != null) {
-                runIndexPair(list, addIndex, midIndex + 1, 10);
-            }
+            runIndexPair(list, midIndex + 1, 10);
 
             long nodeNs = timeNodePair(list, midNode, REPS);
             String nodeMsg = String.format("node addAfter/removeAfter: %s ns/op", fmt(nodeNs));
 
-            String indexMsg;
-            if (addIndex != null) {
-                long idxNs = timeIndexPair(list, addIndex, midIndex + 1, REPS);
-                indexMsg = String.format("index add/remove: %s ns/op", fmt(idxNs));
-            } else {
-                indexMsg = "index add/remove: N/A (no add(int, T) found)";
-            }
+            long idxNs = timeIndexPair(list, midIndex + 1, REPS);
+            String indexMsg = String.format("index add/remove: %s ns/op", fmt(idxNs));
 
             System.out.println("n = " + n);
             System.out.println("  " + nodeMsg);
@@ -70,35 +59,20 @@ public class Benchmark {
         }
     }
 
-    private static long timeIndexPair(SLL<Integer> list, Method addIndex, int index, int reps) {
+    private static long timeIndexPair(SLL<Integer> list, int index, int reps) {
         long start = System.nanoTime();
-        runIndexPair(list, addIndex, index, reps);
+        runIndexPair(list, index, reps);
         long end = System.nanoTime();
         return (end - start) / reps;
     }
 
-    private static void runIndexPair(SLL<Integer> list, Method addIndex, int index, int reps) {
+    private static void runIndexPair(SLL<Integer> list, int index, int reps) {
         for (int i = 0; i < reps; i++) {
-            try {
-                addIndex.invoke(list, index, -1);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            list.add(index, -1);
             list.remove(index);
         }
     }
 
-    private static Method findAddIndexMethod(Object list) {
-        for (Method m : list.getClass().getMethods()) {
-            if (!m.getName().equals("add")) continue;
-            Class<?>[] ps = m.getParameterTypes();
-            if (ps.length == 2 && ps[0] == int.class) {
-                return m;
-            }
-        }
-        return null;
-    }
-
     private static String fmt(long nsPerOp) {
         return String.format("%,d", nsPerOp);
     }
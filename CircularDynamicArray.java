@@ -0,0 +1,392 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A DynamicArray laid out as a circular buffer. The first element lives at data[head] and the
+ * elements wrap around the end of the backing array, so inserting or removing at either end only
+ * moves the head or the size and costs amortized O(1). get(index) stays O(1). Inserts and removes
+ * in the middle shift whichever side of the index is shorter.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ */
+public class CircularDynamicArray<T> implements ListADT<T>, Iterable<T> {
+    /**
+     * The array that holds the elements, starting at head and wrapping around the end.
+     */
+    T[] data;
+    /**
+     * The physical position in data of the element at index 0.
+     */
+    int head;
+    /**
+     * The number of elements currently in the CircularDynamicArray.
+     */
+    int size;
+
+    /**
+     * Constructs an empty CircularDynamicArray with an initial capacity of 10.
+     */
+    public CircularDynamicArray() {
+        this(10);
+    }
+
+    /**
+     * Constructs an empty CircularDynamicArray with the given initial capacity.
+     * @param capacity the initial capacity of the CircularDynamicArray
+     */
+    public CircularDynamicArray(int capacity) {
+        this.data = this.makeArray(capacity);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a new CircularDynamicArray that is a copy of the given CircularDynamicArray. The copy is unwrapped so it starts at position 0.
+     * @param sourceArray the CircularDynamicArray to be copied
+     */
+    public CircularDynamicArray(CircularDynamicArray<T> sourceArray) {
+        this(sourceArray.data.length);
+        sourceArray.copyTo(this.data, 0, 0, sourceArray.size);
+        this.size = sourceArray.size;
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        checkIndex(index);
+        int position = this.physical(index);
+        T returnValue = this.data[position];
+        this.data[position] = value;
+        return returnValue;
+    }
+
+    /**
+     * Adds element to existing list. Elements on the shorter side of the index are shifted by one to make room.
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.size == this.data.length) {
+            this.resize(this.size*2+1);
+        }
+        if (index < this.size / 2) {
+            this.head = this.physical(this.data.length - 1);
+            this.shift(1, 0, index);
+        } else {
+            this.shift(index, index+1, this.size-index);
+        }
+        this.data[this.physical(index)] = value;
+        this.size += 1;
+    }
+
+    /**
+     * Adds element at end of list.
+     * @param value the element to be added to the ListADT object
+     */
+    public void add(T value) {
+        this.add(this.size, value);
+    }
+
+    /**
+     * Adds element to the front of the list in amortized O(1).
+     * @param value the element to be added
+     */
+    public void addFirst(T value) {
+        this.add(0, value);
+    }
+
+    /**
+     * Adds element to the end of the list in amortized O(1).
+     * @param value the element to be added
+     */
+    public void addLast(T value) {
+        this.add(this.size, value);
+    }
+
+    /**
+     * Removes the first element of the list in O(1).
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFirst() {
+        return this.remove(0);
+    }
+
+    /**
+     * Removes the last element of the list in O(1).
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeLast() {
+        return this.remove(this.size - 1);
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Converts the CircularDynamicArray to a string.
+     * @return CircularDynamicArray in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (int i=0; i<this.size; i++) {
+            returnString.append(String.valueOf(this.data[this.physical(i)]));
+            if (i<this.size-1) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return this.data[this.physical(index)];
+    }
+
+    /**
+     * Removes item from list at given index. Elements on the shorter side of the index are shifted by one to close the gap.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        checkIndex(index);
+        T returnValue = this.data[this.physical(index)];
+        if (index < this.size / 2) {
+            this.shift(0, 1, index);
+            this.data[this.head] = null;
+            this.head = this.physical(1);
+        } else {
+            this.shift(index+1, index, this.size-index-1);
+            this.data[this.physical(this.size-1)] = null;
+        }
+        this.size -= 1;
+        return returnValue;
+    }
+
+    /**
+     * Appends the elements of the given array to the end of this array, and returns a new CircularDynamicArray containing the result.
+     * @param addArray the array to be appended to this array
+     * @return a new CircularDynamicArray containing the elements of this array followed by the elements of addArray
+     */
+    public CircularDynamicArray<T> append(CircularDynamicArray<T> addArray) {
+        return this.addAll(this.size, addArray);
+    }
+
+    /**
+     * Adds the elements of the given array to the index of this array, and returns a new CircularDynamicArray containing the result.
+     * @param index the index at which to insert the elements of addArray
+     * @param addArray the array to be added to this array
+     * @return a new CircularDynamicArray containing the elements of this array with the elements of addArray inserted at the specified index
+     */
+    public CircularDynamicArray<T> addAll(int index, CircularDynamicArray<T> addArray) {
+        checkSplitIndex(index);
+        CircularDynamicArray<T> newArray = new CircularDynamicArray<T>(addArray.size+this.size);
+        this.copyTo(newArray.data, 0, 0, index);
+        addArray.copyTo(newArray.data, index, 0, addArray.size);
+        this.copyTo(newArray.data, index+addArray.size, index, this.size-index);
+        newArray.size = this.size + addArray.size;
+        return newArray;
+    }
+
+    /**
+     * Returns a new CircularDynamicArray containing the elements of this array from the given index to the end of the array. The original array is not modified.
+     * @param index the index from which to start copying elements
+     * @return a new CircularDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public CircularDynamicArray<T> splitCopy(int index) {
+        checkSplitIndex(index);
+        CircularDynamicArray<T> newArray = new CircularDynamicArray<T>(this.size - index);
+        this.copyTo(newArray.data, 0, index, this.size - index);
+        newArray.size = this.size - index;
+        return newArray;
+    }
+
+    /**
+     * Returns a new CircularDynamicArray containing the elements of this array from the given index to the end of the array. The original array is modified to remove these elements.
+     * @param index the index from which to start transferring elements
+     * @return a new CircularDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public CircularDynamicArray<T> splitTransfer(int index) {
+        CircularDynamicArray<T> newArray = this.splitCopy(index);
+        this.clearRange(index, this.size - index);
+        this.size = index;
+        return newArray;
+    }
+
+    /**
+     * Maps a logical index to its position in the backing array.
+     * @param index the logical index, from 0 to data.length-1
+     * @return the position of that index in data
+     */
+    private int physical(int index) {
+        int position = this.head + index;
+        return position >= this.data.length ? position - this.data.length : position;
+    }
+
+    /**
+     * Moves count elements starting at logical index from so they start at logical index to. The move is done as a few contiguous System.arraycopy calls, splitting wherever the source or destination wraps.
+     * @param from the logical index of the first element to move
+     * @param to the logical index the first element is moved to
+     * @param count the number of elements to move
+     */
+    private void shift(int from, int to, int count) {
+        if (to > from) {
+            while (count > 0) {
+                int srcEnd = this.physical(from + count - 1) + 1;
+                int dstEnd = this.physical(to + count - 1) + 1;
+                int chunk = Math.min(count, Math.min(srcEnd, dstEnd));
+                System.arraycopy(this.data, srcEnd - chunk, this.data, dstEnd - chunk, chunk);
+                count -= chunk;
+            }
+        } else {
+            int done = 0;
+            while (done < count) {
+                int src = this.physical(from + done);
+                int dst = this.physical(to + done);
+                int chunk = Math.min(count - done, Math.min(this.data.length - src, this.data.length - dst));
+                System.arraycopy(this.data, src, this.data, dst, chunk);
+                done += chunk;
+            }
+        }
+    }
+
+    /**
+     * Copies count elements starting at logical index from into dest, unwrapping them in order. At most two System.arraycopy calls are needed.
+     * @param dest the array to copy into
+     * @param destPos the position in dest of the first copied element
+     * @param from the logical index of the first element to copy
+     * @param count the number of elements to copy
+     */
+    private void copyTo(Object[] dest, int destPos, int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        int start = this.physical(from);
+        int firstPart = Math.min(count, this.data.length - start);
+        System.arraycopy(this.data, start, dest, destPos, firstPart);
+        System.arraycopy(this.data, 0, dest, destPos + firstPart, count - firstPart);
+    }
+
+    /**
+     * Nulls out count slots starting at logical index from so the removed elements can be garbage collected.
+     * @param from the logical index of the first slot to clear
+     * @param count the number of slots to clear
+     */
+    private void clearRange(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        int start = this.physical(from);
+        int firstPart = Math.min(count, this.data.length - start);
+        Arrays.fill(this.data, start, start + firstPart, null);
+        Arrays.fill(this.data, 0, count - firstPart, null);
+    }
+
+    /**
+     * Replaces the backing array with a larger one, unwrapping the elements so head becomes 0.
+     * @param capacity the new capacity
+     */
+    private void resize(int capacity) {
+        T[] dataCopy = this.makeArray(capacity);
+        this.copyTo(dataCopy, 0, 0, this.size);
+        this.data = dataCopy;
+        this.head = 0;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Creates a new generic array of the given capacity.
+     * @param capacity the desired length of the array
+     * @return a new array of type T[] with the given capacity
+     */
+    @SuppressWarnings("unchecked")
+    private T[] makeArray(int capacity) {
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Returns an iterator for the list. The iterator should iterate through the elements of the list in order from first to last.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new CircularDynamicArrayIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the CircularDynamicArray. The iterator walks logical indexes 0 to size-1, following the wraparound.
+     */
+    private class CircularDynamicArrayIterator implements Iterator<T> {
+        private int currentIndex;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < CircularDynamicArray.this.size;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return CircularDynamicArray.this.data[CircularDynamicArray.this.physical(this.currentIndex++)];
+        }
+    }
+}
@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe DynamicArray for many readers and few writers, guarded by a StampedLock.
+ * <p>
+ * Reads (get, size, isEmpty and taking a snapshot) first try an optimistic read: they read the fields without locking and
+ * then check that no write happened in the meantime. Only if one did do they retry under the read lock, so readers never
+ * block each other and only wait on a writer that is actually writing. Writers take the write lock. A resize builds the new
+ * backing array completely before storing it, and the store is published when the write lock is released.
+ * <p>
+ * iterator() returns a snapshot iterator: it walks a copy of the elements taken when it was created, so it never sees later
+ * changes and never throws ConcurrentModificationException.
+ *
+ * @param <T> the type of element stored in the array
+ * @author Michelle Jiang
+ */
+public class ConcurrentDynamicArray<T> implements ListADT<T>, Iterable<T> {
+    /**
+     * Guards data and size.
+     */
+    private final StampedLock lock = new StampedLock();
+    /**
+     * The array that holds the elements. Replaced, never shrunk in place, when the array grows.
+     */
+    private Object[] data;
+    /**
+     * The number of elements currently in the array.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty ConcurrentDynamicArray with an initial capacity of 10.
+     */
+    public ConcurrentDynamicArray() {
+        this(10);
+    }
+
+    /**
+     * Constructs an empty ConcurrentDynamicArray with the given initial capacity.
+     * @param capacity the initial capacity of the array
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ConcurrentDynamicArray(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.data = new Object[capacity];
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = this.lock.tryOptimisticRead();
+        Object[] data = this.data;
+        int size = this.size;
+        // The fields may be mid-update, so check the index against the array itself before reading it.
+        Object value = index >= 0 && index < size && index < data.length ? data[index] : null;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                size = this.size;
+                value = index >= 0 && index < size ? this.data[index] : null;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (T) value;
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T value) {
+        long stamp = this.lock.writeLock();
+        try {
+            checkIndex(index);
+            T returnValue = (T) this.data[index];
+            this.data[index] = value;
+            return returnValue;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (this.size == this.data.length) {
+                this.data = Arrays.copyOf(this.data, this.size*2+1);
+            }
+            System.arraycopy(this.data, index, this.data, index+1, this.size-index);
+            this.data[index] = value;
+            this.size += 1;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds element at end of list.
+     * @param value the element to be added
+     */
+    public void add(T value) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.size == this.data.length) {
+                this.data = Arrays.copyOf(this.data, this.size*2+1);
+            }
+            this.data[this.size] = value;
+            this.size += 1;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        long stamp = this.lock.writeLock();
+        try {
+            checkIndex(index);
+            T returnValue = (T) this.data[index];
+            System.arraycopy(this.data, index+1, this.data, index, this.size-index-1);
+            this.size -= 1;
+            this.data[this.size] = null;
+            return returnValue;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        long stamp = this.lock.tryOptimisticRead();
+        int size = this.size;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                size = this.size;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Returns a DynamicArray holding a copy of the elements as they were at one moment.
+     * @return a copy of the array
+     */
+    public DynamicArray<T> snapshot() {
+        Object[] elements = this.copyElements();
+        DynamicArray<T> copy = new DynamicArray<>(elements.length);
+        for (Object element : elements) {
+            @SuppressWarnings("unchecked")
+            T value = (T) element;
+            copy.add(value);
+        }
+        return copy;
+    }
+
+    /**
+     * Converts the ConcurrentDynamicArray to a string.
+     * @return ConcurrentDynamicArray in String type
+     */
+    public String toString() {
+        return Arrays.toString(this.copyElements());
+    }
+
+    /**
+     * Returns a snapshot iterator for the list. It walks the elements as they were when the iterator was created.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new SnapshotIterator(this.copyElements());
+    }
+
+    /**
+     * Copies the elements as they are at one moment, optimistically if no writer interferes.
+     * @return an array holding exactly the elements
+     */
+    private Object[] copyElements() {
+        long stamp = this.lock.tryOptimisticRead();
+        Object[] data = this.data;
+        int size = this.size;
+        Object[] copy = Arrays.copyOf(data, Math.min(size, data.length));
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                copy = Arrays.copyOf(this.data, this.size);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. Must be called with the lock held.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Private inner class to implement the snapshot iterator for the ConcurrentDynamicArray.
+     */
+    private class SnapshotIterator implements Iterator<T> {
+        private final Object[] elements;
+        private int currentIndex;
+
+        /**
+         * Constructor for SnapshotIterator.
+         * @param elements the copy of the elements to walk
+         */
+        SnapshotIterator(Object[] elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < this.elements.length;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) this.elements[this.currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Throughput benchmark for ConcurrentDynamicArray vs a DynamicArray guarded by synchronized blocks, for read-mostly (95/5)
+ * and balanced (50/50) mixes of reads and writes across thread counts.
+ *
+ * Reads are get(random index). Writes are split evenly between set(random index) and an add at the end followed later by a
+ * remove from the end, which keeps the size steady while still making the backing array grow now and then. The size
+ * check before an add or remove is not atomic with it, so with t threads the size can dip to SIZE + 1 - t; random
+ * indexes are drawn below SIZE - t so they stay in range.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java ConcurrentDynamicArrayBenchmark
+ */
+public class ConcurrentDynamicArrayBenchmark {
+    private static final int[] THREADS = { 1, 2, 4, 8 };
+    private static final int[] READ_PERCENT = { 95, 50 };
+    private static final long RUN_MILLIS = 500;
+    private static final int SIZE = 10000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Throughput: ConcurrentDynamicArray (StampedLock) vs synchronized DynamicArray");
+        System.out.println("n = " + SIZE + ", " + RUN_MILLIS + " ms per run, " + Runtime.getRuntime().availableProcessors() + " core(s).\n");
+
+        for (int threads : THREADS) {
+            timeStamped(threads, 95);
+            timeSynchronized(threads, 95);
+        }
+        for (int readPercent : READ_PERCENT) {
+            System.out.println(readPercent + "% reads / " + (100 - readPercent) + "% writes");
+            for (int threads : THREADS) {
+                double stamped = timeStamped(threads, readPercent) / 1e6;
+                double locked = timeSynchronized(threads, readPercent) / 1e6;
+                System.out.println(String.format("  %d thread(s): ConcurrentDynamicArray %.2f Mops/s, synchronized DynamicArray %.2f Mops/s", threads, stamped, locked));
+            }
+            System.out.println();
+        }
+    }
+
+    private static long timeStamped(int threads, int readPercent) throws InterruptedException {
+        ConcurrentDynamicArray<Integer> arr = new ConcurrentDynamicArray<>();
+        for (int i = 0; i < SIZE; i++) {
+            arr.add(i);
+        }
+        int bound = SIZE - threads;
+        return run(threads, random -> {
+            int roll = random.nextInt(100);
+            if (roll < readPercent) {
+                arr.get(random.nextInt(bound));
+            } else if ((roll & 1) == 0) {
+                arr.set(random.nextInt(bound), roll);
+            } else if (arr.size() <= SIZE) {
+                arr.add(roll);
+            } else {
+                try {
+                    arr.remove(arr.size() - 1);
+                } catch (IndexOutOfBoundsException e) {
+                    // Another thread removed the last element first; counts as an operation.
+                }
+            }
+        });
+    }
+
+    private static long timeSynchronized(int threads, int readPercent) throws InterruptedException {
+        DynamicArray<Integer> arr = new DynamicArray<>();
+        for (int i = 0; i < SIZE; i++) {
+            arr.add(i);
+        }
+        int bound = SIZE - threads;
+        return run(threads, random -> {
+            int roll = random.nextInt(100);
+            int index = random.nextInt(bound);
+            synchronized (arr) {
+                if (roll < readPercent) {
+                    arr.get(index);
+                } else if ((roll & 1) == 0) {
+                    arr.set(index, roll);
+                } else if (arr.size() <= SIZE) {
+                    arr.add(roll);
+                } else {
+                    arr.remove(arr.size() - 1);
+                }
+            }
+        });
+    }
+
+    private interface Operation {
+        void run(ThreadLocalRandom random);
+    }
+
+    /**
+     * Runs the operation in a loop on the given number of threads for RUN_MILLIS.
+     * @return operations per second across all threads
+     * @throws IllegalStateException if the operation threw on any thread, whose operations would otherwise go uncounted
+     */
+    private static long run(int threads, Operation operation) throws InterruptedException {
+        AtomicLong total = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        long[] deadline = new long[1];
+        for (int t = 0; t < threads; t++) {
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long ops = 0;
+                try {
+                    while (System.nanoTime() < deadline[0]) {
+                        for (int i = 0; i < 100; i++) {
+                            operation.run(random);
+                        }
+                        ops += 100;
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+                total.addAndGet(ops);
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        deadline[0] = begin + RUN_MILLIS * 1000000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("benchmark operation failed", failure.get());
+        }
+        return total.get() * 1000000000L / (System.nanoTime() - begin);
+    }
+}
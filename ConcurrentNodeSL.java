@@ -0,0 +1,48 @@
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * A node of a ConcurrentSLL. The link to the next node is an AtomicMarkableReference: its mark is set when this node is
+ * removed (logical deletion), after which the link never changes again, so no thread can insert after a removed node.
+ * The node is physically unlinked afterwards by whichever thread next walks past it. There is no setNext: links are only
+ * changed by ConcurrentSLL, with compare-and-set.
+ *
+ * @param <T> the type of element stored in the node
+ * @author Michelle Jiang
+ */
+public class ConcurrentNodeSL<T> implements ListNode<T> {
+    /** The data at the node */
+    private volatile T data;
+
+    /** Link to the next node, marked once this node has been removed */
+    final AtomicMarkableReference<ConcurrentNodeSL<T>> next;
+
+    /** A constructor */
+    ConcurrentNodeSL(T data, ConcurrentNodeSL<T> next) {
+        this.data = data;
+        this.next = new AtomicMarkableReference<>(next, false);
+    }
+
+    /** @return data field */
+    public T getData() {
+        return this.data;
+    }
+
+    /** @param d new data value */
+    public void setData(T d) {
+        this.data = d;
+    }
+
+    /** @return next node that has not been removed, or null if there is none */
+    public ConcurrentNodeSL<T> getNext() {
+        ConcurrentNodeSL<T> node = this.next.getReference();
+        while (node != null && node.isRemoved()) {
+            node = node.next.getReference();
+        }
+        return node;
+    }
+
+    /** @return true if this node has been removed from its list */
+    public boolean isRemoved() {
+        return this.next.isMarked();
+    }
+}
@@ -0,0 +1,251 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free first-in, first-out queue that any number of producer and consumer threads can use at once, following
+ * Michael and Scott's non-blocking queue.
+ * <p>
+ * The queue is a singly linked list of nodes laid out like NodeSL, with a dummy node at the front. head points at the
+ * dummy, and the first element is in the node after it. tail points at or near the last node. offer links a new node
+ * after the last node with one compare-and-set and then swings tail forward; poll swings head forward by one node with one
+ * compare-and-set, and the node it moved onto becomes the new dummy. A thread that finds tail lagging behind the last node
+ * swings it forward itself before going on, so no thread ever waits for another to finish.
+ * <p>
+ * Null elements are not allowed, because poll and peek return null for an empty queue.
+ *
+ * @param <T> the type of element stored in the queue
+ * @author Michelle Jiang
+ */
+public class ConcurrentQueue<T> {
+    /**
+     * The most nodes drainTo claims with one compare-and-set on head.
+     */
+    private static final int DRAIN_BATCH = 256;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The dummy node before the first element.
+     */
+    private volatile Node<T> head;
+    /**
+     * The last node, or a node before it that offer has not yet swung past.
+     */
+    private volatile Node<T> tail;
+    /**
+     * Elements offered minus elements taken. A LongAdder so that producers and consumers do not all contend on one counter.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructs an empty ConcurrentQueue.
+     */
+    public ConcurrentQueue() {
+        this.head = new Node<>(null);
+        this.tail = this.head;
+    }
+
+    /**
+     * Adds an element at the back of the queue. The queue is unbounded, so this always succeeds.
+     * @param value the element to add
+     * @return true
+     * @throws IllegalArgumentException if value is null
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null elements are not allowed");
+        }
+        Node<T> node = new Node<>(value);
+        while (true) {
+            Node<T> last = this.tail;
+            Node<T> next = last.next;
+            if (last != this.tail) {
+                continue;
+            }
+            if (next != null) {
+                // tail is lagging; help swing it forward and try again.
+                TAIL.compareAndSet(this, last, next);
+            } else if (NEXT.compareAndSet(last, null, node)) {
+                TAIL.compareAndSet(this, last, node);
+                this.count.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * @return the element removed, or null if the queue is empty
+     */
+    public T poll() {
+        while (true) {
+            Node<T> first = this.head;
+            Node<T> last = this.tail;
+            Node<T> next = first.next;
+            if (first != this.head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // An offer has linked a node but not yet swung tail past it.
+                TAIL.compareAndSet(this, last, next);
+            } else if (HEAD.compareAndSet(this, first, next)) {
+                T value = next.data;
+                // next is the new dummy; drop its element so the queue does not keep it reachable.
+                next.data = null;
+                this.count.decrement();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * @return the element at the front, or null if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            Node<T> first = this.head;
+            Node<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T value = next.data;
+            // If head moved, next may have become the dummy and its element been taken.
+            if (first == this.head) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Removes every element currently in the queue and adds them, in order, to the end of the given array.
+     * @param target the array to add the elements to
+     * @return the number of elements moved
+     */
+    public int drainTo(DynamicArray<? super T> target) {
+        return this.drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and adds them, in order, to the end of the given array.
+     * Elements are claimed up to DRAIN_BATCH at a time with a single compare-and-set on head, instead of one per element.
+     * @param target the array to add the elements to
+     * @param max the most elements to move
+     * @return the number of elements moved
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(DynamicArray<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+        int moved = 0;
+        while (moved < max) {
+            Node<T> first = this.head;
+            Node<T> last = this.tail;
+            Node<T> next = first.next;
+            if (first != this.head) {
+                continue;
+            }
+            if (next == null) {
+                break;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            // Walk at most up to the current tail, so head never passes it.
+            int limit = Math.min(max - moved, DRAIN_BATCH);
+            int claimed = 1;
+            Node<T> end = next;
+            while (claimed < limit && end != last && end.next != null) {
+                end = end.next;
+                claimed++;
+            }
+            if (HEAD.compareAndSet(this, first, end)) {
+                for (Node<T> node = next; ; node = node.next) {
+                    target.add(node.data);
+                    node.data = null;
+                    if (node == end) {
+                        break;
+                    }
+                }
+                this.count.add(-claimed);
+                moved += claimed;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Estimates the number of elements in the queue. It is exact when no other thread is using the queue; otherwise it may
+     * miss offers and polls that are still in progress.
+     * @return the estimated size of the queue
+     */
+    public int size() {
+        long size = this.count.sum();
+        return (int) Math.max(0, Math.min(size, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Tests if the queue is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    /**
+     * Converts the ConcurrentQueue to a string, front first. Weakly consistent while other threads are using the queue.
+     * @return ConcurrentQueue in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (Node<T> node = this.head.next; node != null; node = node.next) {
+            T value = node.data;
+            if (value == null) {
+                // Taken by a poll since we started walking.
+                continue;
+            }
+            if (returnString.length() > 1) {
+                returnString.append(", ");
+            }
+            returnString.append(value);
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * A node of the queue. Like NodeSL it holds one element and a link to the next node, but the link is only changed with
+     * compare-and-set, and only ever from null to a new node.
+     */
+    private static class Node<T> {
+        /** The data at the node; null once the node is the dummy */
+        volatile T data;
+
+        /** Link to the next node */
+        volatile Node<T> next;
+
+        /** A constructor */
+        Node(T data) {
+            this.data = data;
+        }
+    }
+}
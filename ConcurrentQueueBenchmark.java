@@ -0,0 +1,322 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Producer/consumer stress check and benchmark for ConcurrentQueue vs an SLL used as a queue (addLast/removeFirst) guarded
+ * by one lock.
+ *
+ * The stress check has every producer offer its own increasing sequence, and checks that every element is taken exactly
+ * once and that each consumer sees each producer's elements in the order they were offered.
+ *
+ * The benchmark runs equal numbers of producers and consumers. Producers offer their timestamps; consumers record how long
+ * each element waited in the queue. It reports throughput and the 99th percentile of that wait, for consumers taking one
+ * element at a time with poll and for consumers taking batches with drainTo. Consumers stop once the producers have
+ * finished and the queue is empty.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java ConcurrentQueueBenchmark
+ */
+public class ConcurrentQueueBenchmark {
+    private static final int[] THREADS = { 1, 2, 4, 8, 16 };
+    private static final int STRESS_ITEMS = 200000;
+    private static final int ITEMS = 1000000;
+    /** Record the wait of one element in every SAMPLE_EVERY. */
+    private static final int SAMPLE_EVERY = 16;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("ConcurrentQueue stress check");
+        for (int threads : THREADS) {
+            stress(threads);
+        }
+        System.out.println();
+
+        System.out.println("Producer/consumer: ConcurrentQueue vs synchronized SLL");
+        System.out.println(ITEMS + " elements per run, " + Runtime.getRuntime().availableProcessors() + " core(s).\n");
+        for (int threads : THREADS) {
+            run(threads, new LockFree(), false);
+        }
+        for (int threads : THREADS) {
+            Result poll = run(threads, new LockFree(), false);
+            Result drain = run(threads, new LockFree(), true);
+            Result locked = run(threads, new Locked(), false);
+            System.out.println(String.format("  %2d producers + %2d consumers: ConcurrentQueue poll %s, drainTo %s; synchronized SLL %s",
+                    threads, threads, poll, drain, locked));
+        }
+    }
+
+    private static void stress(int threads) throws InterruptedException {
+        ConcurrentQueue<Long> queue = new ConcurrentQueue<>();
+        int perProducer = STRESS_ITEMS / threads;
+        List<Thread> producers = new ArrayList<>();
+        List<Thread> consumers = new ArrayList<>();
+        List<List<Long>> taken = new ArrayList<>();
+        AtomicBoolean producersDone = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < threads; p++) {
+            long base = (long) p << 32;
+            producers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(base + i);
+                }
+            }));
+        }
+        for (int c = 0; c < threads; c++) {
+            List<Long> mine = new ArrayList<>();
+            taken.add(mine);
+            boolean batches = c % 2 == 1;
+            consumers.add(new Thread(() -> {
+                long[] lastSeen = new long[threads];
+                Arrays.fill(lastSeen, -1);
+                DynamicArray<Long> batch = new DynamicArray<>();
+                awaitQuietly(start);
+                while (true) {
+                    // Read the flag first: if it was already set, an empty queue means nothing more is coming.
+                    boolean done = producersDone.get();
+                    if (batches) {
+                        batch = new DynamicArray<>();
+                        if (queue.drainTo(batch, 64) == 0) {
+                            if (done) {
+                                return;
+                            }
+                            Thread.yield();
+                            continue;
+                        }
+                    } else {
+                        Long value = queue.poll();
+                        if (value == null) {
+                            if (done) {
+                                return;
+                            }
+                            Thread.yield();
+                            continue;
+                        }
+                        batch = new DynamicArray<>(1);
+                        batch.add(value);
+                    }
+                    for (Long value : batch) {
+                        int producer = (int) (value >>> 32);
+                        long sequence = value & 0xffffffffL;
+                        check(sequence > lastSeen[producer], "out of order from producer " + producer + ": " + sequence
+                                + " after " + lastSeen[producer]);
+                        lastSeen[producer] = sequence;
+                        mine.add(value);
+                    }
+                }
+            }));
+        }
+        startAll(producers);
+        startAll(consumers);
+        start.countDown();
+        joinAll(producers);
+        producersDone.set(true);
+        joinAll(consumers);
+
+        boolean[] seen = new boolean[threads * perProducer];
+        int total = 0;
+        for (List<Long> mine : taken) {
+            for (Long value : mine) {
+                int index = (int) (value >>> 32) * perProducer + (int) (value & 0xffffffffL);
+                check(!seen[index], "taken twice: " + value);
+                seen[index] = true;
+                total++;
+            }
+        }
+        check(total == seen.length, "lost elements: " + (seen.length - total));
+        check(queue.isEmpty() && queue.size() == 0, "queue not empty: size() " + queue.size());
+        System.out.println("  " + threads + " producer(s) + " + threads + " consumer(s): ok (" + total + " elements)");
+    }
+
+    /**
+     * A queue under test.
+     */
+    private interface Queue {
+        void offer(Long value);
+
+        /** @return the next element, or null if the queue is empty */
+        Long poll();
+
+        /** Moves up to max elements into target. @return the number moved */
+        int drainTo(DynamicArray<Long> target, int max);
+    }
+
+    private static class LockFree implements Queue {
+        private final ConcurrentQueue<Long> queue = new ConcurrentQueue<>();
+
+        public void offer(Long value) {
+            this.queue.offer(value);
+        }
+
+        public Long poll() {
+            return this.queue.poll();
+        }
+
+        public int drainTo(DynamicArray<Long> target, int max) {
+            return this.queue.drainTo(target, max);
+        }
+    }
+
+    private static class Locked implements Queue {
+        private final SLL<Long> list = new SLL<>();
+
+        public synchronized void offer(Long value) {
+            this.list.addLast(value);
+        }
+
+        public synchronized Long poll() {
+            return this.list.isEmpty() ? null : this.list.removeFirst();
+        }
+
+        public synchronized int drainTo(DynamicArray<Long> target, int max) {
+            int moved = 0;
+            while (moved < max && !this.list.isEmpty()) {
+                target.add(this.list.removeFirst());
+                moved++;
+            }
+            return moved;
+        }
+    }
+
+    private static class Result {
+        final double millionsPerSecond;
+        final double p99Micros;
+
+        Result(double millionsPerSecond, double p99Micros) {
+            this.millionsPerSecond = millionsPerSecond;
+            this.p99Micros = p99Micros;
+        }
+
+        public String toString() {
+            return String.format("%.2f Mops/s (p99 %.1f us)", this.millionsPerSecond, this.p99Micros);
+        }
+    }
+
+    /**
+     * Moves ITEMS timestamps from the given number of producers to as many consumers.
+     */
+    private static Result run(int threads, Queue queue, boolean batches) throws InterruptedException {
+        int perProducer = ITEMS / threads;
+        List<Thread> producers = new ArrayList<>();
+        List<Thread> consumers = new ArrayList<>();
+        long[][] samples = new long[threads][];
+        int[] sampleCounts = new int[threads];
+        AtomicBoolean producersDone = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < threads; p++) {
+            producers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(System.nanoTime());
+                }
+            }));
+        }
+        for (int c = 0; c < threads; c++) {
+            int consumer = c;
+            consumers.add(new Thread(() -> {
+                Sampler sampler = new Sampler();
+                // Allocated once: drainTo appends, so the batch is emptied and reused inside the timed loop.
+                DynamicArray<Long> batch = new DynamicArray<>(64);
+                awaitQuietly(start);
+                while (true) {
+                    // Read the flag first: if it was already set, an empty queue means nothing more is coming.
+                    boolean done = producersDone.get();
+                    if (batches) {
+                        batch.removeRange(0, batch.size());
+                        if (queue.drainTo(batch, 64) == 0) {
+                            if (done) {
+                                break;
+                            }
+                            Thread.yield();
+                            continue;
+                        }
+                        long now = System.nanoTime();
+                        for (int i = 0; i < batch.size(); i++) {
+                            sampler.take(now - batch.get(i));
+                        }
+                    } else {
+                        Long value = queue.poll();
+                        if (value == null) {
+                            if (done) {
+                                break;
+                            }
+                            Thread.yield();
+                            continue;
+                        }
+                        sampler.take(System.nanoTime() - value);
+                    }
+                }
+                samples[consumer] = sampler.waits;
+                sampleCounts[consumer] = sampler.recorded;
+            }));
+        }
+        startAll(producers);
+        startAll(consumers);
+        long begin = System.nanoTime();
+        start.countDown();
+        joinAll(producers);
+        producersDone.set(true);
+        joinAll(consumers);
+        long elapsed = System.nanoTime() - begin;
+
+        int total = 0;
+        for (int count : sampleCounts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int filled = 0;
+        for (int c = 0; c < threads; c++) {
+            System.arraycopy(samples[c], 0, all, filled, sampleCounts[c]);
+            filled += sampleCounts[c];
+        }
+        Arrays.sort(all);
+        long p99 = total == 0 ? 0 : all[Math.min(total - 1, (int) (total * 0.99))];
+        return new Result((double) perProducer * threads * 1000 / elapsed, p99 / 1e3);
+    }
+
+    /**
+     * Records the queue wait of every SAMPLE_EVERY-th element a consumer takes.
+     */
+    private static class Sampler {
+        long[] waits = new long[1024];
+        int recorded;
+        long taken;
+
+        void take(long waitNanos) {
+            if (this.taken++ % SAMPLE_EVERY == 0) {
+                if (this.recorded == this.waits.length) {
+                    this.waits = Arrays.copyOf(this.waits, this.recorded * 2);
+                }
+                this.waits[this.recorded++] = waitNanos;
+            }
+        }
+    }
+
+    private static void startAll(List<Thread> threads) {
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
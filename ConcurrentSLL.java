@@ -0,0 +1,318 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free singly linked list that any number of threads can use at once, following Harris's and Michael's
+ * marked-pointer algorithm.
+ * <p>
+ * Every change is a single compare-and-set on one node's next link. A node is removed in two steps. First its own next link
+ * is marked, which is the moment the removal takes effect and which stops anything from being inserted after it. Then it
+ * is unlinked from its predecessor, either by the removing thread or by whichever thread next walks past it.
+ * <p>
+ * Nodes handed out by getHead(), getTail() and getNext() stay valid handles for addAfter and removeAfter until they are
+ * removed; using a removed node as a handle throws IllegalStateException. size() and iteration are weakly consistent: they
+ * reflect the list at some point during the call and never throw ConcurrentModificationException.
+ *
+ * @param <T> the type of element stored in the list
+ * @author Michelle Jiang
+ */
+public class ConcurrentSLL<T> implements NodeBasedOps<T, ConcurrentNodeSL<T>>, Iterable<T> {
+    /**
+     * A sentinel node before the first element. It is never removed.
+     */
+    private final ConcurrentNodeSL<T> head;
+    /**
+     * A node at or near the end of the list, where addLast starts looking for the end. It may lag behind the true tail or
+     * refer to a removed node, in which case addLast starts from the head instead.
+     */
+    private volatile ConcurrentNodeSL<T> tailHint;
+    /**
+     * The number of elements, updated after each insertion or removal takes effect.
+     */
+    private final AtomicInteger size;
+
+    /**
+     * Constructs an empty ConcurrentSLL.
+     */
+    public ConcurrentSLL() {
+        this.head = new ConcurrentNodeSL<>(null, null);
+        this.tailHint = this.head;
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Accessor for head node
+     * @return the first node that has not been removed, or null if the list is empty
+     */
+    public ConcurrentNodeSL<T> getHead() {
+        return this.head.getNext();
+    }
+
+    /**
+     * Accessor for tail node. Walks from the last known tail, or from the head if that node has been removed.
+     * @return the last node that has not been removed, or null if the list is empty
+     */
+    public ConcurrentNodeSL<T> getTail() {
+        ConcurrentNodeSL<T> node = this.tailHint;
+        if (node.isRemoved()) {
+            node = this.head;
+        }
+        for (ConcurrentNodeSL<T> next = node.getNext(); next != null; next = node.getNext()) {
+            node = next;
+        }
+        return node == this.head ? null : node;
+    }
+
+    /**
+     * Inserts the given item at the head of the list
+     * @param v item to insert
+     */
+    public void addFirst(T v) {
+        this.addAfter(this.head, v);
+    }
+
+    /**
+     * Inserts the given item at the tail of the list
+     * @param v item to insert
+     */
+    public void addLast(T v) {
+        ConcurrentNodeSL<T> node = new ConcurrentNodeSL<>(v, null);
+        ConcurrentNodeSL<T> pred = this.tailHint;
+        if (pred.isRemoved()) {
+            pred = this.head;
+        }
+        while (true) {
+            ConcurrentNodeSL<T> last = this.findLast(pred);
+            if (last == null) {
+                // The node we stopped at was removed under us; start again from the head.
+                pred = this.head;
+            } else if (last.next.compareAndSet(null, node, false, false)) {
+                this.tailHint = node;
+                this.size.incrementAndGet();
+                return;
+            } else {
+                pred = last;
+            }
+        }
+    }
+
+    /**
+     * Removes the given item from the head of the list
+     * @return v item removed
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeFirst() {
+        return this.removeAfter(this.head);
+    }
+
+    /**
+     * Removes the given item from the tail of the list. This walks the whole list, so it takes O(n) time.
+     * @return item removed
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeLast() {
+        while (true) {
+            ConcurrentNodeSL<T> pred = this.head;
+            ConcurrentNodeSL<T> curr = this.head.next.getReference();
+            ConcurrentNodeSL<T> before = null;
+            // Find the last two nodes, unlinking removed nodes along the way.
+            while (curr != null) {
+                boolean[] marked = new boolean[1];
+                ConcurrentNodeSL<T> succ = curr.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        break;
+                    }
+                    curr = succ;
+                } else {
+                    before = pred;
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+            if (curr != null) {
+                continue;
+            }
+            if (pred == this.head) {
+                throw new IllegalStateException();
+            }
+            if (pred.next.compareAndSet(null, null, false, true)) {
+                before.next.compareAndSet(pred, null, false, false);
+                this.size.decrementAndGet();
+                return pred.getData();
+            }
+        }
+    }
+
+    /**
+     * Inserts the given item after the specified node.
+     * If here is null, insert at the head.
+     * @param here node to insert after; must be a node of this list
+     * @param v item to insert
+     * @throws IllegalStateException if here has been removed
+     */
+    public void addAfter(ConcurrentNodeSL<T> here, T v) {
+        ConcurrentNodeSL<T> pred = this.node(here);
+        ConcurrentNodeSL<T> node = new ConcurrentNodeSL<>(v, null);
+        boolean[] marked = new boolean[1];
+        while (true) {
+            ConcurrentNodeSL<T> succ = pred.next.get(marked);
+            if (marked[0]) {
+                throw new IllegalStateException("node has been removed");
+            }
+            node.next.set(succ, false);
+            if (pred.next.compareAndSet(succ, node, false, false)) {
+                this.size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the node after the given position.
+     * If here is null, remove the head node.
+     * @param here marks position to remove after; must be a node of this list
+     * @return item removed
+     * @throws IllegalStateException if here has been removed or has no node after it
+     */
+    public T removeAfter(ConcurrentNodeSL<T> here) {
+        ConcurrentNodeSL<T> pred = this.node(here);
+        boolean[] marked = new boolean[1];
+        while (true) {
+            ConcurrentNodeSL<T> curr = pred.next.get(marked);
+            if (marked[0]) {
+                throw new IllegalStateException("node has been removed");
+            }
+            if (curr == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentNodeSL<T> succ = curr.next.get(marked);
+            if (marked[0]) {
+                // curr is already removed; finish unlinking it and look again.
+                pred.next.compareAndSet(curr, succ, false, false);
+            } else if (curr.next.compareAndSet(succ, succ, false, true)) {
+                pred.next.compareAndSet(curr, succ, false, false);
+                this.size.decrementAndGet();
+                return curr.getData();
+            }
+        }
+    }
+
+    /**
+     * Queries number of elements in list. While other threads are changing the list, the result may be briefly out of date.
+     * @return size of list.
+     */
+    public int size() {
+        return Math.max(0, this.size.get());
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.head.getNext() == null;
+    }
+
+    /**
+     * Converts the ConcurrentSLL to a string.
+     * @return ConcurrentSLL in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (ConcurrentNodeSL<T> node = this.getHead(); node != null; node = node.getNext()) {
+            returnString.append(node.getData());
+            if (node.getNext() != null) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Converts a position argument to the node it names.
+     * @param here a node of this list, or null for the head sentinel
+     * @return the node
+     */
+    private ConcurrentNodeSL<T> node(ConcurrentNodeSL<T> here) {
+        return here == null ? this.head : here;
+    }
+
+    /**
+     * Walks forward from start to the last node, unlinking removed nodes along the way.
+     * @param start a node to start from
+     * @return the last node, or null if start itself has been removed
+     */
+    private ConcurrentNodeSL<T> findLast(ConcurrentNodeSL<T> start) {
+        boolean[] marked = new boolean[1];
+        ConcurrentNodeSL<T> pred = start;
+        retry:
+        while (true) {
+            ConcurrentNodeSL<T> curr = pred.next.get(marked);
+            if (marked[0]) {
+                return null;
+            }
+            while (curr != null) {
+                ConcurrentNodeSL<T> succ = curr.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        continue retry;
+                    }
+                    curr = succ;
+                } else {
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+            return pred;
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the list, from head to tail. It reflects the list as it changes: elements
+     * added ahead of it may or may not be returned, and an element removed after the iterator has looked ahead to it may
+     * still be returned.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new ConcurrentSLLIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the ConcurrentSLL. It always holds the next node to return, so
+     * hasNext() and next() agree even if that node is removed in between.
+     */
+    private class ConcurrentSLLIterator implements Iterator<T> {
+        private ConcurrentNodeSL<T> nextNode;
+
+        /**
+         * Constructor for ConcurrentSLLIterator. Starts at the first node not yet removed.
+         */
+        public ConcurrentSLLIterator() {
+            this.nextNode = ConcurrentSLL.this.getHead();
+        }
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.nextNode != null;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public T next() {
+            if (this.nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            T data = this.nextNode.getData();
+            this.nextNode = this.nextNode.getNext();
+            return data;
+        }
+    }
+}
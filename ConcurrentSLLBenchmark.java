@@ -0,0 +1,136 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-threaded throughput benchmark for ConcurrentSLL vs an SLL guarded by one lock. The correctness check under
+ * contention is ConcurrentSLLTest.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java ConcurrentSLLBenchmark
+ */
+public class ConcurrentSLLBenchmark {
+    private static final int[] THREADS = { 1, 2, 4, 8 };
+    private static final long RUN_MILLIS = 500;
+    private static final int PREFILL = 1000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Throughput: ConcurrentSLL vs synchronized SLL");
+        System.out.println("Mixed addFirst/removeFirst/addAfter/removeAfter at the head, " + RUN_MILLIS + " ms per run, "
+                + Runtime.getRuntime().availableProcessors() + " core(s).\n");
+        for (int threads : THREADS) {
+            time(threads, RUN_MILLIS);
+        }
+        for (int threads : THREADS) {
+            double lockFree = time(threads, RUN_MILLIS) / 1e6;
+            double locked = timeLocked(threads, RUN_MILLIS) / 1e6;
+            System.out.println(String.format("  %d thread(s): ConcurrentSLL %.2f Mops/s, synchronized SLL %.2f Mops/s", threads, lockFree, locked));
+        }
+    }
+
+    private static long time(int threads, long millis) throws InterruptedException {
+        ConcurrentSLL<Integer> list = new ConcurrentSLL<>();
+        for (int i = 0; i < PREFILL; i++) {
+            list.addLast(i);
+        }
+        return run(threads, millis, random -> {
+            try {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        list.addFirst(1);
+                        break;
+                    case 1:
+                        list.removeFirst();
+                        break;
+                    case 2:
+                        list.addAfter(list.getHead(), 2);
+                        break;
+                    default:
+                        list.removeAfter(list.getHead());
+                        break;
+                }
+            } catch (IllegalStateException e) {
+                // Lost a race for the head node; counts as an operation.
+            }
+        });
+    }
+
+    private static long timeLocked(int threads, long millis) throws InterruptedException {
+        SLL<Integer> list = new SLL<>();
+        for (int i = 0; i < PREFILL; i++) {
+            list.addLast(i);
+        }
+        return run(threads, millis, random -> {
+            int op = random.nextInt(4);
+            synchronized (list) {
+                try {
+                    switch (op) {
+                        case 0:
+                            list.addFirst(1);
+                            break;
+                        case 1:
+                            list.removeFirst();
+                            break;
+                        case 2:
+                            list.addAfter(list.getHead(), 2);
+                            break;
+                        default:
+                            list.removeAfter(list.getHead());
+                            break;
+                    }
+                } catch (IllegalStateException e) {
+                    // Empty list; counts as an operation.
+                }
+            }
+        });
+    }
+
+    private interface Operation {
+        void run(ThreadLocalRandom random);
+    }
+
+    /**
+     * Runs the operation in a loop on the given number of threads for the given time.
+     * @return operations per second across all threads
+     */
+    private static long run(int threads, long millis, Operation operation) throws InterruptedException {
+        AtomicLong total = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        long[] deadline = new long[1];
+        for (int t = 0; t < threads; t++) {
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                awaitQuietly(start);
+                long ops = 0;
+                while (System.nanoTime() < deadline[0]) {
+                    for (int i = 0; i < 100; i++) {
+                        operation.run(random);
+                    }
+                    ops += 100;
+                }
+                total.addAndGet(ops);
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        deadline[0] = begin + millis * 1000000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return total.get() * 1000000000L / (System.nanoTime() - begin);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Multi-threaded stress test for ConcurrentSLL.
+ *
+ * Runs every NodeBasedOps operation from several threads at once and then verifies that every element added was either
+ * removed exactly once or is still in the list exactly once, and that size() agrees with the list. Exits with status 1
+ * on the first failure.
+ *
+ * Run:
+ *   javac *.java
+ *   java ConcurrentSLLTest
+ */
+public class ConcurrentSLLTest {
+    private static final int[] THREADS = { 1, 2, 4, 8 };
+    private static final int OPS = 200000;
+
+    public static void main(String[] args) throws InterruptedException {
+        try {
+            for (int threads : THREADS) {
+                stress(threads);
+            }
+        } catch (IllegalStateException e) {
+            System.out.println("FAILED: " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.println("ConcurrentSLLTest passed");
+    }
+
+    private static void stress(int threads) throws InterruptedException {
+        ConcurrentSLL<Long> list = new ConcurrentSLL<>();
+        List<List<Long>> added = new ArrayList<>();
+        List<List<Long>> removed = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            List<Long> mine = new ArrayList<>();
+            List<Long> gone = new ArrayList<>();
+            added.add(mine);
+            removed.add(gone);
+            long base = (long) t * OPS;
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                awaitQuietly(start);
+                for (int i = 0; i < OPS; i++) {
+                    long value = base + i;
+                    try {
+                        switch (random.nextInt(6)) {
+                            case 0:
+                                list.addFirst(value);
+                                mine.add(value);
+                                break;
+                            case 1:
+                                list.addLast(value);
+                                mine.add(value);
+                                break;
+                            case 2: {
+                                ConcurrentNodeSL<Long> here = list.getHead();
+                                list.addAfter(here, value);
+                                mine.add(value);
+                                break;
+                            }
+                            case 3:
+                                gone.add(list.removeFirst());
+                                break;
+                            case 4:
+                                if (i % 64 == 0) {
+                                    gone.add(list.removeLast());
+                                }
+                                break;
+                            default:
+                                gone.add(list.removeAfter(list.getHead()));
+                                break;
+                        }
+                    } catch (IllegalStateException e) {
+                        // Empty list, or the handle was removed by another thread: both are expected under contention.
+                    }
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Set<Long> expected = new HashSet<>();
+        for (List<Long> mine : added) {
+            expected.addAll(mine);
+        }
+        Set<Long> seen = new HashSet<>();
+        int remaining = 0;
+        for (List<Long> gone : removed) {
+            for (Long value : gone) {
+                check(seen.add(value), threads + " thread(s): removed twice: " + value);
+            }
+        }
+        for (Long value : list) {
+            check(seen.add(value), threads + " thread(s): duplicated or already removed: " + value);
+            remaining++;
+        }
+        check(seen.equals(expected), threads + " thread(s): lost elements: " + (expected.size() - seen.size()));
+        check(list.size() == remaining, threads + " thread(s): size() " + list.size() + " but " + remaining + " elements");
+        System.out.println(threads + " thread(s): ok (" + expected.size() + " added, " + remaining + " left)");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
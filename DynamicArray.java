@@ -1,8 +1,22 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A Dynamic Array is like a list that is backed by an array. It allows adding, removing, and accessing elements in a way similar to an ArrayList.
+ * <p>
+ * splitCopy and subList return views that share this array's backing array instead of copying it. Whichever side is modified first copies its own elements out (copy-on-write), so a view always behaves like an independent copy.
+ * <p>
+ * A GrowthPolicy decides how far the backing array grows when it is full and when it shrinks after removals. The default, GrowthPolicy.DOUBLING, grows to size*2+1 and shrinks to twice the size once the array is less than a quarter full. The array never shrinks automatically below the capacity it was constructed with or last asked for with ensureCapacity, and a backing array shared with a view is left alone until the array is next copied.
  *
  * @param <T> The generic class T can hold any object type such as Integer, String, etc. 
  * @author Michelle Jiang
@@ -16,6 +30,26 @@ public class DynamicArray<T> implements Iterable<T> {
      * The number of elements currently in the DynamicArray. 
      */
     int size; 
+    /**
+     * The position in data of the element at index 0. Only a shared array has a nonzero offset.
+     */
+    int offset;
+    /**
+     * True if data may also be referenced by another DynamicArray, in which case it must be copied before it is written.
+     */
+    boolean shared;
+    /**
+     * The number of structural modifications (changes in size) made so far, used by iterators to fail fast.
+     */
+    int modCount;
+    /**
+     * Decides how far the backing array grows and when it shrinks.
+     */
+    private GrowthPolicy growthPolicy = GrowthPolicy.DOUBLING;
+    /**
+     * The capacity asked for by the constructor or ensureCapacity. Automatic shrinking never goes below it.
+     */
+    private int reservedCapacity;
 
     /**
      * Constructs an empty DynamicArray with an initial capacity of 10.
@@ -31,6 +65,18 @@ public class DynamicArray<T> implements Iterable<T> {
     public DynamicArray(int capacity) {
         this.data = this.makeArray(capacity); 
         this.size = 0; 
+        this.reservedCapacity = capacity;
+    }
+
+    /**
+     * Constructs an empty DynamicArray with the given initial capacity and growth policy.
+     * @param capacity the initial capacity of the DynamicArray
+     * @param growthPolicy decides how the backing array grows and shrinks
+     * @throws IllegalArgumentException if growthPolicy is null
+     */
+    public DynamicArray(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        this.setGrowthPolicy(growthPolicy);
     }
 
     /**
@@ -38,12 +84,28 @@ public class DynamicArray<T> implements Iterable<T> {
      * @param sourceArray the DynamicArray to be copied
      */ 
     public DynamicArray(DynamicArray<T> sourceArray) {
-        this.data = this.makeArray(sourceArray.data.length);
-        for (int i=0; i<sourceArray.size; i++) {
-            this.data[i] = sourceArray.data[i];
-        }
+        this.data = this.makeArray(sourceArray.data.length - sourceArray.offset);
+        System.arraycopy(sourceArray.data, sourceArray.offset, this.data, 0, sourceArray.size);
         this.size = sourceArray.size; 
+        this.growthPolicy = sourceArray.growthPolicy;
+        this.reservedCapacity = sourceArray.reservedCapacity;
     }
+
+    /**
+     * Constructs a view over part of another DynamicArray's backing array. Both arrays must be marked shared.
+     * @param data the backing array to share
+     * @param offset the position in data of the view's first element
+     * @param size the number of elements in the view
+     * @param growthPolicy the growth policy of the array the view is taken from
+     */
+    private DynamicArray(T[] data, int offset, int size, GrowthPolicy growthPolicy) {
+        this.data = data;
+        this.growthPolicy = growthPolicy;
+        this.offset = offset;
+        this.size = size;
+        this.shared = true;
+    }
+
     /**
      * Sets the value at the given index
      * @param index the index whose value is changed
@@ -53,6 +115,7 @@ public class DynamicArray<T> implements Iterable<T> {
      */
     public T set(int index, T value) {
         checkIndex(index);
+        this.prepareWrite(this.size);
         T returnValue = this.data[index];
         this.data[index] = value; 
         return returnValue;
@@ -67,20 +130,12 @@ public class DynamicArray<T> implements Iterable<T> {
     public void add(int index, T value) {
         if (index < 0 || index > this.size()) { 
             throw new IndexOutOfBoundsException();
-        } else {
-            if (size == this.data.length) {
-                T[] dataCopy = this.makeArray(size*2+1);
-                for (int i=0; i<size; i++) {
-                    dataCopy[i] = this.data[i];
-                }
-                data = dataCopy;
-            }
-            for (int i=this.size()-1; i>=index; i--) {
-                this.data[i+1] = this.data[i];
-            }
-            this.data[index] = value;
-            size += 1; 
         }
+        this.prepareWrite(size+1);
+        System.arraycopy(this.data, index, this.data, index+1, size-index);
+        this.data[index] = value;
+        size += 1; 
+        modCount++;
     }
 
     /**
@@ -114,7 +169,7 @@ public class DynamicArray<T> implements Iterable<T> {
     public String toString() {
         String returnString = "["; 
         for (int i=0; i<this.size(); i++) {
-            returnString += String.valueOf(this.data[i]);
+            returnString += String.valueOf(this.data[this.offset+i]);
             if (i<this.size-1) {
                 returnString += ", ";
             }
@@ -131,7 +186,7 @@ public class DynamicArray<T> implements Iterable<T> {
      */
     public T get(int index) {
         checkIndex(index);
-        return this.data[index];
+        return this.data[this.offset+index];
     }
 
     /**
@@ -142,12 +197,13 @@ public class DynamicArray<T> implements Iterable<T> {
      */
     public T remove(int index) {
         checkIndex(index);
+        this.prepareWrite(this.size);
         T returnValue = this.data[index];
-        this.data[index] = null;
-        for (int i=index+1; i<size; i++) {
-            this.data[i-1] = this.data[i];
-        }
+        System.arraycopy(this.data, index+1, this.data, index, size-index-1);
         size -= 1; 
+        this.data[size] = null;
+        modCount++;
+        this.shrinkIfSparse();
         return returnValue;
     }
 
@@ -157,15 +213,7 @@ public class DynamicArray<T> implements Iterable<T> {
      * @return a new DynamicArray containing the elements of this array followed by the elements of addArray
      */
     public DynamicArray<T> append(DynamicArray<T> addArray) {
-        DynamicArray<T> newArray = new DynamicArray<T>(addArray.size+this.size());
-        for (int i=0; i<this.size(); i++) {
-            newArray.data[i] = this.data[i];
-        }
-        for (int i=0; i<addArray.size; i++) {
-            newArray.data[this.size()+i] = addArray.data[i];
-        }
-        newArray.size = this.size + addArray.size;
-        return newArray;
+        return this.addAll(this.size, addArray);
     }
 
     /**
@@ -175,25 +223,227 @@ public class DynamicArray<T> implements Iterable<T> {
      * @return a new DynamicArray containing the elements of this array with the elements of addArray inserted at the specified index
      */
     public DynamicArray<T> addAll(int index, DynamicArray<T> addArray) {
-        if (index < 0 || index > this.size) {
-        throw new IndexOutOfBoundsException();
-        }
+        checkSplitIndex(index);
         DynamicArray<T> newArray = new DynamicArray<T>(addArray.size+this.size());
- 
-        for (int i=0; i<index; i++) {
-            newArray.data[i] = this.data[i];
+        System.arraycopy(this.data, this.offset, newArray.data, 0, index);
+        System.arraycopy(addArray.data, addArray.offset, newArray.data, index, addArray.size);
+        System.arraycopy(this.data, this.offset+index, newArray.data, index+addArray.size, this.size-index);
+        newArray.size = this.size + addArray.size;
+        newArray.growthPolicy = this.growthPolicy;
+        return newArray;
+    }
+
+    /**
+     * Inserts the elements of the given array into this array at the index, modifying this array in place. The existing elements are shifted once and the backing array is reallocated at most once, however many elements are inserted.
+     * @param index the index at which to insert the elements of addArray
+     * @param addArray the array whose elements are inserted; may be this array
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void insertAll(int index, DynamicArray<T> addArray) {
+        checkSplitIndex(index);
+        if (addArray == this) {
+            addArray = new DynamicArray<T>(this);
         }
-    
-        for (int i=0; i<addArray.size; i++) {
-                newArray.data[i+index] = addArray.data[i];
+        int count = addArray.size;
+        this.prepareWrite(this.size + count);
+        System.arraycopy(this.data, index, this.data, index+count, this.size-index);
+        System.arraycopy(addArray.data, addArray.offset, this.data, index, count);
+        this.size += count;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the elements from index from (inclusive) to index to (exclusive), shifting the remaining elements down with a single copy.
+     * @param from the index of the first element to remove
+     * @param to the index after the last element to remove
+     * @throws IndexOutOfBoundsException if from is less than 0, to is greater than the size of the list, or from is greater than to
+     */
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > this.size || from > to) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.prepareWrite(this.size);
+        System.arraycopy(this.data, to, this.data, from, this.size-to);
+        int newSize = this.size - (to-from);
+        Arrays.fill(this.data, newSize, this.size, null);
+        this.size = newSize;
+        this.modCount++;
+        this.shrinkIfSparse();
+    }
+
+    /**
+     * Removes every element that matches the filter, in one pass. A read cursor walks the array and a write cursor trails it, copying each kept element down over the gaps left by removed ones, so the whole call is O(n) however many elements are removed. The filter is called once per element, in order.
+     * If the filter throws, the elements it has already matched are removed and the rest are kept.
+     * @param filter returns true for elements to remove
+     * @return true if any elements were removed
+     * @throws ConcurrentModificationException if the filter changes the size of the array
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int expectedModCount = this.modCount;
+        int read = 0;
+        // Find the first match before writing anything, so a shared backing array is not copied when nothing is removed.
+        while (read < this.size && this.modCount == expectedModCount && !filter.test(this.data[this.offset+read])) {
+            read++;
+        }
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (read == this.size) {
+            return false;
+        }
+        this.prepareWrite(this.size);
+        int write = read;
+        read++;
+        try {
+            for (; read < this.size && this.modCount == expectedModCount; read++) {
+                T element = this.data[read];
+                if (!filter.test(element)) {
+                    this.data[write++] = element;
+                }
             }
-        
-        for (int i=index; i<this.size(); i++) {
-            newArray.data[i+addArray.size] = this.data[i];
+        } finally {
+            // Close the gap over any elements the filter did not get to.
+            System.arraycopy(this.data, read, this.data, write, this.size-read);
+            write += this.size-read;
+            Arrays.fill(this.data, write, this.size, null);
+            this.size = write;
+            this.modCount++;
+        }
+        if (this.modCount != expectedModCount + 1) {
+            throw new ConcurrentModificationException();
         }
+        this.shrinkIfSparse();
+        return true;
+    }
 
-        newArray.size = this.size + addArray.size;
-        return newArray;
+    /**
+     * Removes every element that is in the given collection, in one pass. Takes O(n) calls to the collection's contains method.
+     * @param c the elements to remove
+     * @return true if any elements were removed
+     */
+    public boolean removeAll(Collection<?> c) {
+        return this.removeIf(element -> c.contains(element));
+    }
+
+    /**
+     * Removes every element that is not in the given collection, in one pass. Takes O(n) calls to the collection's contains method.
+     * @param c the elements to keep
+     * @return true if any elements were removed
+     */
+    public boolean retainAll(Collection<?> c) {
+        return this.removeIf(element -> !c.contains(element));
+    }
+
+    /**
+     * Replaces each element with the result of applying the operator to it, in order.
+     * @param operator the function to apply to each element
+     * @throws ConcurrentModificationException if the operator changes the size of the array
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        int expectedModCount = this.modCount;
+        this.prepareWrite(this.size);
+        for (int i = 0; i < this.size && this.modCount == expectedModCount; i++) {
+            this.data[i] = operator.apply(this.data[i]);
+        }
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Sorts the array in place. The sort is stable, and it finds runs that are already in order (ascending, or strictly descending, which it reverses) and merges them, so sorted and nearly sorted input take close to O(n) time. It needs a temporary array of at most n/2 references for the merges, and none for input that is already sorted.
+     * @param c the comparator that orders the elements, or null to use their natural ordering
+     * @throws ClassCastException if c is null and the elements are not mutually Comparable
+     * @throws ConcurrentModificationException if the comparator changes the size of the array
+     */
+    public void sort(Comparator<? super T> c) {
+        int expectedModCount = this.modCount;
+        this.prepareWrite(this.size);
+        Arrays.sort(this.data, 0, this.size, c);
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Makes sure the backing array can hold at least the given number of elements without another reallocation. When it has to grow, the array grows as the growth policy says, at least to minCapacity. Automatic shrinking will not take the capacity back below minCapacity.
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.data.length - this.offset) {
+            this.prepareWrite(minCapacity);
+        }
+        this.reservedCapacity = Math.max(this.reservedCapacity, minCapacity);
+    }
+
+    /**
+     * Shrinks the backing array to exactly the number of elements, and lets automatic shrinking go as low as it likes from now on. A backing array shared with a view is copied out, so the view keeps the original.
+     */
+    public void trimToSize() {
+        this.reservedCapacity = 0;
+        if (this.shared || this.data.length != this.size) {
+            this.data = Arrays.copyOfRange(this.data, this.offset, this.offset + this.size);
+            this.offset = 0;
+            this.shared = false;
+        }
+    }
+
+    /**
+     * Gets the growth policy.
+     * @return the policy that decides how the backing array grows and shrinks
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return this.growthPolicy;
+    }
+
+    /**
+     * Sets the growth policy used from now on. The backing array is not resized until the next add or remove.
+     * @param growthPolicy decides how the backing array grows and shrinks
+     * @throws IllegalArgumentException if growthPolicy is null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Reports how much memory the backing array takes and how much of it is in use. While the backing array is shared with a view, only this array's own window of it is counted: the array does not own the rest, and its next write copies the window out.
+     * @return a Footprint for this array as it is now
+     */
+    public Footprint footprint() {
+        return new Footprint(this.shared ? this.size : this.data.length, this.size, this.shared);
+    }
+
+    /**
+     * Makes the backing array safe to write and able to hold minCapacity elements. A shared array is copied out first so other arrays sharing it are unaffected; a full one grows as the growth policy says. Either way the new array is sized by the growth policy and never below the reserved capacity, so copying out a shared array is not followed by another copy on the next add. Afterwards offset is 0 and the array is not shared.
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    void prepareWrite(int minCapacity) {
+        if (!this.shared && minCapacity <= this.data.length - this.offset) {
+            return;
+        }
+        int capacity = Math.max(Math.max(minCapacity, this.reservedCapacity), this.growthPolicy.grow(this.size, minCapacity));
+        T[] dataCopy = this.makeArray(capacity);
+        System.arraycopy(this.data, this.offset, dataCopy, 0, this.size);
+        this.data = dataCopy;
+        this.offset = 0;
+        this.shared = false;
+    }
+
+    /**
+     * Gives back capacity after elements have been removed, if the growth policy says to. Never shrinks below the reserved capacity, and leaves a shared backing array alone, since the elements would have to be copied out anyway the next time this array is written.
+     */
+    private void shrinkIfSparse() {
+        if (this.shared) {
+            return;
+        }
+        int capacity = this.data.length;
+        int newCapacity = Math.max(this.growthPolicy.shrink(this.size, capacity), Math.max(this.size, this.reservedCapacity));
+        if (newCapacity < capacity) {
+            this.data = Arrays.copyOf(this.data, newCapacity);
+        }
     }
 
     /**
@@ -206,6 +456,16 @@ public class DynamicArray<T> implements Iterable<T> {
         }
     }
 
+    /**
+     * Checks if the given index is a valid split or insertion point (0 to size inclusive). If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
     /**
      * Creates a new generic array of the given capacity.
      * <p>
@@ -223,22 +483,31 @@ public class DynamicArray<T> implements Iterable<T> {
 
     /**
      * Returns a new DynamicArray containing the elements of this array from the given index to the end of the array. The original array should not be modified.
+     * The result is a view over this array's backing array, so the split is O(1); the elements are only copied when either array is next modified.
      * @param index the index from which to start copying elements
      * @return a new DynamicArray containing the elements of this array from the given index to the end of the array
      */
     public DynamicArray<T> splitCopy(int index) { 
-        if (index < 0 || index > this.size) {
+        checkSplitIndex(index);
+        return this.subList(index, this.size);
+    }
+
+    /**
+     * Returns a new DynamicArray containing the elements of this array from index from (inclusive) to index to (exclusive), in O(1) time and memory. The result is a view over this array's backing array; whichever of the two is modified first copies its elements out, so changes to one never show in the other.
+     * @param from the index of the first element of the sublist
+     * @param to the index after the last element of the sublist
+     * @return a new DynamicArray containing the elements from index from to to-1
+     * @throws IndexOutOfBoundsException if from is less than 0, to is greater than the size of the list, or from is greater than to
+     */
+    public DynamicArray<T> subList(int from, int to) {
+        if (from < 0 || to > this.size || from > to) {
             throw new IndexOutOfBoundsException();
         }
-        if (index == this.size) {
+        if (from == to) {
             return new DynamicArray<T>(0);
         }
-        DynamicArray<T> newArray = new DynamicArray<T>(this.size - index);
-        for (int i=index; i<this.size; i++) {
-            newArray.data[i-index] = this.data[i];
-        }
-        newArray.size = this.size - index;
-        return newArray;
+        this.shared = true;
+        return new DynamicArray<T>(this.data, this.offset + from, to - from, this.growthPolicy);
     }
 
     /**
@@ -247,29 +516,17 @@ public class DynamicArray<T> implements Iterable<T> {
      * @return a new DynamicArray containing the elements of this array from the given index to the end of the array
      */
     public DynamicArray<T> splitTransfer(int index) {
-        if (index < 0 || index > this.size) {
-            throw new IndexOutOfBoundsException();
-        }
-        if (index == this.size) {
-            return new DynamicArray<T>(0);
-        }
-        if (index == 0) {
-            DynamicArray<T> newArray = new DynamicArray<T>(this.size);
-            for (int i=0; i<this.size; i++) {
-                newArray.data[i] = this.data[i];
-                this.data[i] = null;
-            }
-            newArray.size = this.size;
-            this.size = 0;
-            return newArray;
-        }
+        checkSplitIndex(index);
         DynamicArray<T> newArray = new DynamicArray<T>(this.size - index);
-        for (int i=index; i<this.size; i++) {
-            newArray.data[i-index] = this.data[i];
-            this.data[i] = null;
-        }
+        System.arraycopy(this.data, this.offset + index, newArray.data, 0, this.size - index);
         newArray.size = this.size - index;
+        newArray.growthPolicy = this.growthPolicy;
+        if (!this.shared) {
+            Arrays.fill(this.data, index, this.size, null);
+        }
         this.size = index;
+        this.modCount++;
+        this.shrinkIfSparse();
         return newArray;
     }
 
@@ -280,18 +537,197 @@ public class DynamicArray<T> implements Iterable<T> {
     public Iterator<T> iterator() {
     return new DynamicArrayIterator();
     }
+
+    /**
+     * Performs the action on each element in order, reading the backing array directly instead of going through an iterator.
+     * @param action the action to perform on each element
+     * @throws ConcurrentModificationException if the action changes the size of the array
+     */
+    public void forEach(Consumer<? super T> action) {
+        T[] data = this.data;
+        int offset = this.offset;
+        int size = this.size;
+        int expectedModCount = this.modCount;
+        for (int i = 0; i < size && this.modCount == expectedModCount; i++) {
+            action.accept(data[offset + i]);
+        }
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a spliterator over the elements of the array. It is SIZED, SUBSIZED and ORDERED, and splits by halving its index
+     * range, so parallel streams divide the work evenly without copying. Like the iterator, it fails fast if the array's size changes.
+     * @return a spliterator over the elements of the array
+     */
+    public Spliterator<T> spliterator() {
+        return new DynamicArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the array.
+     * @return a stream over the elements of the array
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the array.
+     * @return a possibly parallel stream over the elements of the array
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Private inner class to implement the spliterator for the DynamicArray. It covers the index range [index, fence). The fence is
+     * bound to the array's size when the spliterator is first used, so a stream built before elements are added still sees them.
+     */
+    private class DynamicArraySpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * Constructor for DynamicArraySpliterator.
+         * @param index the first index covered
+         * @param fence one past the last index covered, or -1 to bind it to the size on first use
+         * @param expectedModCount the modCount the array must keep; ignored until the fence is bound
+         */
+        DynamicArraySpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (this.fence < 0) {
+                this.expectedModCount = DynamicArray.this.modCount;
+                this.fence = DynamicArray.this.size;
+            }
+            return this.fence;
+        }
+
+        public Spliterator<T> trySplit() {
+            int lo = this.index;
+            int mid = (lo + this.getFence()) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            this.index = mid;
+            return new DynamicArraySpliterator(lo, mid, this.expectedModCount);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            int i = this.index;
+            if (i >= this.getFence()) {
+                return false;
+            }
+            this.index = i + 1;
+            action.accept(DynamicArray.this.data[DynamicArray.this.offset + i]);
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            int hi = this.getFence();
+            T[] data = DynamicArray.this.data;
+            int offset = DynamicArray.this.offset;
+            for (int i = this.index; i < hi && DynamicArray.this.modCount == this.expectedModCount; i++) {
+                action.accept(data[offset + i]);
+            }
+            this.index = hi;
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        public long estimateSize() {
+            return this.getFence() - this.index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
     
+    /**
+     * A report of how much memory a DynamicArray's backing array takes, for tracking capacity that is allocated but unused.
+     */
+    public static final class Footprint {
+        /**
+         * Bytes in an array's header, and per reference, on a 64-bit JVM with compressed references (the default for heaps under 32 GB).
+         */
+        private static final int ARRAY_HEADER_BYTES = 16;
+        private static final int REFERENCE_BYTES = 4;
+
+        /** The number of slots in the backing array, or only the slots holding this array's elements if the backing array is shared */
+        public final int capacity;
+        /** The number of slots holding elements */
+        public final int size;
+        /** True if the backing array may be shared with a view, in which case only this array's window of it is counted */
+        public final boolean shared;
+
+        /**
+         * Constructor for Footprint.
+         * @param capacity the number of slots counted
+         * @param size the number of slots holding elements
+         * @param shared whether the backing array may be shared
+         */
+        Footprint(int capacity, int size, boolean shared) {
+            this.capacity = capacity;
+            this.size = size;
+            this.shared = shared;
+        }
+
+        /**
+         * @return the number of slots allocated but not holding elements
+         */
+        public int wastedSlots() {
+            return this.capacity - this.size;
+        }
+
+        /**
+         * Estimates the bytes taken by the backing array itself, not counting the elements it refers to. For a shared backing array only the window's references are counted, with no array header.
+         * @return the estimated size of the backing array in bytes
+         */
+        public long estimatedBytes() {
+            if (this.shared) {
+                return (long) REFERENCE_BYTES * this.capacity;
+            }
+            long bytes = ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * this.capacity;
+            return (bytes + 7) & ~7L;
+        }
+
+        /**
+         * @return the footprint as a string
+         */
+        public String toString() {
+            return "Footprint[capacity=" + this.capacity + ", size=" + this.size + ", wasted=" + this.wastedSlots()
+                    + ", bytes=" + this.estimatedBytes() + (this.shared ? ", shared" : "") + "]";
+        }
+    }
+
     /**
      * Private inner class to implement the iterator for the DynamicArray. The iterator should iterate through the elements of the array in order from index 0 to size-1.
+     * It is fail-fast: if the array is structurally modified other than through the iterator, next() throws ConcurrentModificationException.
      */
     private class DynamicArrayIterator implements Iterator<T> {
         private int currentIndex;
+        private int expectedModCount;
+        //Index of the element next() returned last, or -1 if remove() has been called since.
+        private int lastIndex = -1;
         
         /**
          * Constructor for DynamicArrayIterator.
          */
         public DynamicArrayIterator() {
             this.currentIndex = 0;
+            this.expectedModCount = DynamicArray.this.modCount;
         }
 
         /**
@@ -307,13 +743,35 @@ public class DynamicArray<T> implements Iterable<T> {
          * @return the next element in the iteration
          */
         public T next() {
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             if (this.hasNext()) {
-                T data = DynamicArray.this.data[this.currentIndex];
+                T data = DynamicArray.this.data[DynamicArray.this.offset + this.currentIndex];
+                this.lastIndex = this.currentIndex;
                 this.currentIndex++;
                 return data;
             } else {
                 throw new NoSuchElementException();
             }
         }
+
+        /**
+         * Removes the element next() returned last. The elements after it are shifted down with one array copy, so removing many elements this way is O(n) each; removeIf removes any number in one pass.
+         * @throws IllegalStateException if next() has not been called, or remove() has already been called since
+         * @throws ConcurrentModificationException if the array's size has changed other than through this iterator
+         */
+        public void remove() {
+            if (this.lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            DynamicArray.this.remove(this.lastIndex);
+            this.currentIndex = this.lastIndex;
+            this.lastIndex = -1;
+            this.expectedModCount = DynamicArray.this.modCount;
+        }
     }
 }
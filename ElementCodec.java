@@ -0,0 +1,85 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a fixed number of bytes, so they can be stored outside the Java heap in a ByteBuffer.
+ * Every element written by a codec takes exactly width() bytes. Records with several fields can be stored by writing each
+ * field at its own position within the record.
+ *
+ * @param <T> the type of element the codec converts
+ * @author Michelle Jiang
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Stores int values in 4 bytes.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int position, Integer value) {
+            buffer.putInt(position, value);
+        }
+
+        public Integer read(ByteBuffer buffer, int position) {
+            return buffer.getInt(position);
+        }
+    };
+
+    /**
+     * Stores long values in 8 bytes.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        public int width() {
+            return Long.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int position, Long value) {
+            buffer.putLong(position, value);
+        }
+
+        public Long read(ByteBuffer buffer, int position) {
+            return buffer.getLong(position);
+        }
+    };
+
+    /**
+     * Stores double values in 8 bytes.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        public int width() {
+            return Double.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int position, Double value) {
+            buffer.putDouble(position, value);
+        }
+
+        public Double read(ByteBuffer buffer, int position) {
+            return buffer.getDouble(position);
+        }
+    };
+
+    /**
+     * Returns the number of bytes each element takes.
+     * @return the width of one element in bytes
+     */
+    int width();
+
+    /**
+     * Writes an element into the buffer, starting at the given absolute byte position. The buffer's own position is not changed.
+     * @param buffer the buffer to write to
+     * @param position the byte position of the first byte of the element
+     * @param value the element to write
+     */
+    void write(ByteBuffer buffer, int position, T value);
+
+    /**
+     * Reads an element from the buffer, starting at the given absolute byte position. The buffer's own position is not changed.
+     * @param buffer the buffer to read from
+     * @param position the byte position of the first byte of the element
+     * @return the element stored there
+     */
+    T read(ByteBuffer buffer, int position);
+}
@@ -0,0 +1,195 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a variable number of bytes in a stream. Unlike ElementCodec, an encoder may use fewer bytes
+ * for common values and may keep state between elements (for example, the previous value for delta encoding). ListCodec
+ * calls reset() at the start of every list, so the same encoder can be reused for many lists, but not by two threads at once.
+ *
+ * The built-in encoders do not accept null elements.
+ *
+ * @param <T> the type of element the encoder converts
+ * @author Michelle Jiang
+ */
+public interface ElementEncoder<T> {
+
+    /**
+     * Returns the most bytes a single element can take. The buffer passed to encode() and decode() always has at least this
+     * many bytes remaining, unless the stream is ending.
+     * @return the largest encoded size of one element
+     */
+    int maxBytes();
+
+    /**
+     * Writes one element at the buffer's position and advances it.
+     * @param out the buffer to write to
+     * @param value the element to write
+     */
+    void encode(ByteBuffer out, T value);
+
+    /**
+     * Reads one element at the buffer's position and advances it.
+     * @param in the buffer to read from
+     * @return the element read
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    T decode(ByteBuffer in);
+
+    /**
+     * Forgets any state carried from earlier elements. Called before the first element of every list is written or read.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Returns an encoder that stores every element in the codec's fixed width.
+     * @param codec the fixed-width codec to use
+     * @param <T> the type of element the encoder converts
+     * @return an encoder using the codec
+     */
+    static <T> ElementEncoder<T> of(ElementCodec<T> codec) {
+        return new ElementEncoder<T>() {
+            public int maxBytes() {
+                return codec.width();
+            }
+
+            public void encode(ByteBuffer out, T value) {
+                codec.write(out, out.position(), value);
+                out.position(out.position() + codec.width());
+            }
+
+            public T decode(ByteBuffer in) {
+                T value = codec.read(in, in.position());
+                in.position(in.position() + codec.width());
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns an encoder that stores ints as zigzag varints, so values near zero (positive or negative) take one or two bytes.
+     * @return a varint encoder for Integer elements
+     */
+    static ElementEncoder<Integer> varInt() {
+        return new ElementEncoder<Integer>() {
+            public int maxBytes() {
+                return 5;
+            }
+
+            public void encode(ByteBuffer out, Integer value) {
+                writeVarLong(out, zigzag(value));
+            }
+
+            public Integer decode(ByteBuffer in) {
+                return (int) unzigzag(readVarLong(in, 5));
+            }
+        };
+    }
+
+    /**
+     * Returns an encoder that stores each int as the zigzag varint of its difference from the previous element. Sorted or
+     * slowly changing sequences then take about one byte per element.
+     * @return a delta varint encoder for Integer elements
+     */
+    static ElementEncoder<Integer> deltaVarInt() {
+        return new ElementEncoder<Integer>() {
+            private int previous;
+
+            public int maxBytes() {
+                return 5;
+            }
+
+            public void encode(ByteBuffer out, Integer value) {
+                // The difference may overflow; decoding wraps the same way, so the value still round-trips.
+                writeVarLong(out, zigzag(value - this.previous));
+                this.previous = value;
+            }
+
+            public Integer decode(ByteBuffer in) {
+                this.previous += (int) unzigzag(readVarLong(in, 5));
+                return this.previous;
+            }
+
+            public void reset() {
+                this.previous = 0;
+            }
+        };
+    }
+
+    /**
+     * Returns an encoder that stores each long as the zigzag varint of its difference from the previous element.
+     * @return a delta varint encoder for Long elements
+     */
+    static ElementEncoder<Long> deltaVarLong() {
+        return new ElementEncoder<Long>() {
+            private long previous;
+
+            public int maxBytes() {
+                return 10;
+            }
+
+            public void encode(ByteBuffer out, Long value) {
+                writeVarLong(out, zigzag(value - this.previous));
+                this.previous = value;
+            }
+
+            public Long decode(ByteBuffer in) {
+                this.previous += unzigzag(readVarLong(in, 10));
+                return this.previous;
+            }
+
+            public void reset() {
+                this.previous = 0;
+            }
+        };
+    }
+
+    /**
+     * Maps signed values to unsigned ones so small magnitudes stay small: 0, -1, 1, -2, ... become 0, 1, 2, 3, ...
+     * @param value the signed value
+     * @return the zigzag form of the value
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Reverses zigzag().
+     * @param value the zigzag form of a value
+     * @return the signed value
+     */
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes an unsigned value 7 bits per byte, low bits first, with the high bit of each byte set if more bytes follow.
+     * @param out the buffer to write to
+     * @param value the value to write, treated as unsigned
+     */
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads a value written by writeVarLong().
+     * @param in the buffer to read from
+     * @param maxBytes the most bytes the value may take
+     * @return the value read
+     * @throws IllegalArgumentException if the value is longer than maxBytes
+     */
+    private static long readVarLong(ByteBuffer in, int maxBytes) {
+        long value = 0;
+        for (int i = 0; i < maxBytes; i++) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+}
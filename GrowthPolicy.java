@@ -0,0 +1,116 @@
+/**
+ * Decides how much a DynamicArray's backing array grows when it is full, and when it shrinks after elements are removed.
+ * <p>
+ * grow() is the only method a policy must supply. shrink() defaults to giving capacity back with hysteresis: the array
+ * shrinks to twice its size once it is less than a quarter full, so after a shrink the size has to halve again, or the
+ * array fill up again, before the capacity changes. Adding and removing around one size therefore never reallocates on
+ * every call.
+ *
+ * @author Michelle Jiang
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * Arrays at or below this capacity are never shrunk automatically.
+     */
+    int MIN_SHRINK_CAPACITY = 16;
+    /**
+     * The largest capacity a policy asks for. Some JVMs cannot allocate arrays any closer to Integer.MAX_VALUE.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Grows to size*2+1, the growth DynamicArray has always used, and shrinks with the default hysteresis.
+     */
+    GrowthPolicy DOUBLING = factor(2.0);
+
+    /**
+     * Returns the capacity a full array should grow to.
+     * @param size the number of elements in the array
+     * @param minCapacity the capacity the array needs right now; the result must be at least this
+     * @return the new capacity
+     */
+    int grow(int size, int minCapacity);
+
+    /**
+     * Returns the capacity an array should shrink to after elements have been removed, or capacity to keep it as it is.
+     * @param size the number of elements in the array
+     * @param capacity the current capacity of the array
+     * @return the new capacity, no more than capacity and no less than size
+     */
+    default int shrink(int size, int capacity) {
+        if (capacity <= MIN_SHRINK_CAPACITY || size >= capacity / 4) {
+            return capacity;
+        }
+        return Math.max(size * 2, MIN_SHRINK_CAPACITY);
+    }
+
+    /**
+     * Returns a policy that grows like this one but never shrinks automatically. trimToSize() still shrinks explicitly.
+     * @return a policy that never shrinks
+     */
+    default GrowthPolicy nonShrinking() {
+        GrowthPolicy growth = this;
+        return new GrowthPolicy() {
+            public int grow(int size, int minCapacity) {
+                return growth.grow(size, minCapacity);
+            }
+
+            public int shrink(int size, int capacity) {
+                return capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that grows a full array to size*factor+1.
+     * @param factor how much to multiply the size by
+     * @return a multiplicative growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("factor must be greater than 1");
+        }
+        return (size, minCapacity) -> clamp((long) (size * factor) + 1, minCapacity);
+    }
+
+    /**
+     * Returns a policy that grows a full array by a fixed number of slots. Each growth copies the whole array, so adding n
+     * elements one at a time costs O(n^2/increment); use it only where memory matters more than time.
+     * @param increment how many slots to add
+     * @return an additive growth policy
+     * @throws IllegalArgumentException if increment is less than 1
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("increment must be at least 1");
+        }
+        return (size, minCapacity) -> clamp((long) size + increment, minCapacity);
+    }
+
+    /**
+     * Returns a policy that doubles a full array until it would add more than maxIncrement slots at once, and from then on
+     * adds maxIncrement slots at a time. Small arrays grow quickly, and a large array never reserves more than maxIncrement
+     * unused slots.
+     * @param maxIncrement the most slots to add at once
+     * @return a doubling policy capped at maxIncrement slots per growth
+     * @throws IllegalArgumentException if maxIncrement is less than 1
+     */
+    static GrowthPolicy cappedChunks(int maxIncrement) {
+        if (maxIncrement < 1) {
+            throw new IllegalArgumentException("maxIncrement must be at least 1");
+        }
+        return (size, minCapacity) -> clamp((long) size + Math.min((long) size + 1, maxIncrement), minCapacity);
+    }
+
+    /**
+     * Limits a requested capacity to MAX_CAPACITY, but never below what is needed.
+     * @param capacity the capacity a policy asked for
+     * @param minCapacity the capacity that is needed
+     * @return the capacity to use
+     */
+    private static int clamp(long capacity, int minCapacity) {
+        return (int) Math.max(minCapacity, Math.min(capacity, MAX_CAPACITY));
+    }
+}
@@ -0,0 +1,502 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list backed by a DynamicArray, with a hash index from each value to the positions it is stored at, so contains and
+ * count take O(1) and indexOf and lastIndexOf do not scan the list.
+ * <p>
+ * Inserting or removing in the middle moves every later element, and rewriting all of their positions in the index would
+ * cost a rehash per mutation. Instead each such shift is appended to a shift log, and the index is fixed up lazily: every
+ * value's positions remember the log length (epoch) they were last brought up to date at, and are only replayed through
+ * the shifts logged since when that value is next looked up or changed. The value being inserted or removed is updated
+ * right away, so counts are always exact. Once the log holds 16 sqrt(n) shifts, every value's positions are recomputed in
+ * one pass over the list and the log starts again. The index itself is only built by the first lookup, so a list that is
+ * never searched never pays for it.
+ * <p>
+ * Values are indexed by equals and hashCode, like the keys of a HashMap, so an element must not be changed in a way that
+ * affects them while it is in the list.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ */
+public class HashIndexedList<T> implements ListADT<T>, Iterable<T> {
+    /**
+     * The shift log is never capped below this many entries, however small the list.
+     */
+    private static final int MIN_LOG_LIMIT = 32;
+    /**
+     * The shift log holds up to this many times sqrt(n) shifts. A longer log makes lookups replay more shifts; a shorter
+     * one recomputes every position more often. Recomputing costs a hash lookup per element, which is a few hundred times
+     * the cost of replaying one shift, and the two costs balance at a log length of about 16 sqrt(n).
+     */
+    private static final int LOG_LIMIT_FACTOR = 16;
+
+    /**
+     * The elements, in order.
+     */
+    private final DynamicArray<T> elements;
+    /**
+     * Maps each value in the list to the positions it is stored at, or null if the index has not been built since it was
+     * last dropped.
+     */
+    private HashMap<Object, Positions> index;
+    /**
+     * The first position moved by each logged shift. Entry e of the log says that every position at or after logAt[e]
+     * moved by logDelta[e].
+     */
+    private int[] logAt;
+    /**
+     * How far each logged shift moved its positions: +1 for an insertion, -1 for a removal.
+     */
+    private int[] logDelta;
+    /**
+     * The number of shifts logged since the index was built, which is also the current epoch.
+     */
+    private int logSize;
+
+    /**
+     * Constructs an empty HashIndexedList with an initial capacity of 10.
+     */
+    public HashIndexedList() {
+        this(10);
+    }
+
+    /**
+     * Constructs an empty HashIndexedList with the given initial capacity.
+     * @param capacity the initial capacity of the backing array
+     */
+    public HashIndexedList(int capacity) {
+        this.elements = new DynamicArray<>(capacity);
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        T old = this.elements.set(index, value);
+        if (this.index != null) {
+            this.removePosition(old, index);
+            this.addPosition(value, index);
+        }
+        return old;
+    }
+
+    /**
+     * Adds element to existing list. The later elements' positions in the index are fixed up lazily.
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        this.makeRoomInLog();
+        this.elements.add(index, value);
+        if (this.index != null) {
+            if (index < this.elements.size - 1) {
+                this.logShift(index, 1);
+            }
+            this.addPosition(value, index);
+        }
+    }
+
+    /**
+     * Adds element at end of list.
+     * @param value the element to be added to the ListADT object
+     */
+    public void add(T value) {
+        this.add(this.elements.size, value);
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.elements.size();
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.elements.isEmpty();
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        return this.elements.get(index);
+    }
+
+    /**
+     * Removes item from list at given index. The later elements' positions in the index are fixed up lazily.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        this.makeRoomInLog();
+        T value = this.elements.remove(index);
+        if (this.index != null) {
+            this.removePosition(value, index);
+            if (index < this.elements.size) {
+                this.logShift(index + 1, -1);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the elements from the given index to the end of this list, and returns them in a new DynamicArray. No element
+     * before the index moves, so nothing is logged; the removed elements are taken out of the index one by one, or the index
+     * is dropped if more elements are removed than kept.
+     * @param index the index from which to start transferring elements
+     * @return a new DynamicArray containing the elements of this list from the given index to the end of the list
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public DynamicArray<T> splitTransfer(int index) {
+        DynamicArray<T> removed = this.elements.splitTransfer(index);
+        if (this.index != null) {
+            if (removed.size > this.elements.size) {
+                this.dropIndex();
+            } else {
+                for (int i = removed.size - 1; i >= 0; i--) {
+                    this.removePosition(removed.data[i], index + i);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Tests if the list holds an element equal to the given one, in O(1).
+     * @param value the element to look for
+     * @return true if there is an equal element
+     */
+    public boolean contains(Object value) {
+        return this.index().containsKey(value);
+    }
+
+    /**
+     * Counts the elements equal to the given one, in O(1).
+     * @param value the element to count
+     * @return the number of equal elements
+     */
+    public int count(Object value) {
+        Positions positions = this.index().get(value);
+        return positions == null ? 0 : positions.count;
+    }
+
+    /**
+     * Finds the first element equal to the given one. Takes O(1) plus the cost of replaying any shifts logged since the
+     * value was last looked up.
+     * @param value the element to look for
+     * @return the index of the first equal element, or -1 if there is none
+     */
+    public int indexOf(Object value) {
+        Positions positions = this.index().get(value);
+        if (positions == null) {
+            return -1;
+        }
+        this.catchUp(positions);
+        return positions.at[0];
+    }
+
+    /**
+     * Finds the last element equal to the given one. Takes O(1) plus the cost of replaying any shifts logged since the value
+     * was last looked up.
+     * @param value the element to look for
+     * @return the index of the last equal element, or -1 if there is none
+     */
+    public int lastIndexOf(Object value) {
+        Positions positions = this.index().get(value);
+        if (positions == null) {
+            return -1;
+        }
+        this.catchUp(positions);
+        return positions.at[positions.count - 1];
+    }
+
+    /**
+     * Returns the elements as a DynamicArray. The result is a view that shares the backing array, so this is O(1); it
+     * copies its elements out before either side is changed.
+     * @return the elements in order
+     */
+    public DynamicArray<T> toDynamicArray() {
+        return this.elements.subList(0, this.elements.size);
+    }
+
+    /**
+     * Converts the HashIndexedList to a string.
+     * @return HashIndexedList in String type
+     */
+    public String toString() {
+        return this.elements.toString();
+    }
+
+    /**
+     * Returns an iterator for the list. Its remove() keeps the index up to date.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new HashIndexedListIterator();
+    }
+
+    /**
+     * Helper method that returns the index, building it first if it has not been built since it was last dropped.
+     * @return the index
+     */
+    private HashMap<Object, Positions> index() {
+        if (this.index == null) {
+            this.rebuild();
+        }
+        return this.index;
+    }
+
+    /**
+     * Helper method that builds the index in one pass over the list and starts an empty shift log. Positions are added in
+     * increasing order, so every value's positions start out sorted.
+     */
+    private void rebuild() {
+        int size = this.elements.size;
+        HashMap<Object, Positions> index = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        T[] data = this.elements.data;
+        int base = this.elements.offset;
+        for (int i = 0; i < size; i++) {
+            Positions positions = index.get(data[base + i]);
+            if (positions == null) {
+                index.put(data[base + i], new Positions(i, 0));
+            } else {
+                positions.append(i);
+            }
+        }
+        this.index = index;
+        this.resetLog();
+    }
+
+    /**
+     * Helper method that empties the shift log, resizing it to suit the current size of the list.
+     */
+    private void resetLog() {
+        int limit = Math.max(MIN_LOG_LIMIT, LOG_LIMIT_FACTOR * (int) Math.sqrt(this.elements.size));
+        if (this.logAt == null || this.logAt.length != limit) {
+            this.logAt = new int[limit];
+            this.logDelta = new int[limit];
+        }
+        this.logSize = 0;
+    }
+
+    /**
+     * Helper method that drops the index, to be rebuilt by the next lookup.
+     */
+    private void dropIndex() {
+        this.index = null;
+        this.logSize = 0;
+    }
+
+    /**
+     * Helper method that logs a shift of every position at or after at by delta. There is always room, since every
+     * mutation that can log a shift calls makeRoomInLog first.
+     * @param at the first position that moves
+     * @param delta how far it moves
+     */
+    private void logShift(int at, int delta) {
+        this.logAt[this.logSize] = at;
+        this.logDelta[this.logSize] = delta;
+        this.logSize++;
+    }
+
+    /**
+     * Helper method that empties a full shift log before a mutation that may add to it. Every value's positions are
+     * recomputed in one pass over the list, reusing the map and its Positions, so nothing is inserted or allocated again.
+     * The pass is spread over the mutations that filled the log, and lookups never replay more than one log's worth of
+     * shifts per value.
+     */
+    private void makeRoomInLog() {
+        if (this.index == null || this.logSize < this.logAt.length) {
+            return;
+        }
+        for (Positions positions : this.index.values()) {
+            positions.count = 0;
+            positions.epoch = 0;
+        }
+        T[] data = this.elements.data;
+        int base = this.elements.offset;
+        for (int i = 0; i < this.elements.size; i++) {
+            this.index.get(data[base + i]).append(i);
+        }
+        this.resetLog();
+    }
+
+    /**
+     * Helper method that replays the shifts logged since a value's positions were last brought up to date. Positions are
+     * kept sorted, and a shift moves every position after some point by the same amount, so only a suffix of them moves
+     * and they stay sorted.
+     * @param positions the positions to bring up to date
+     */
+    private void catchUp(Positions positions) {
+        int[] at = positions.at;
+        for (int e = positions.epoch; e < this.logSize; e++) {
+            int from = this.logAt[e];
+            int delta = this.logDelta[e];
+            for (int j = positions.count - 1; j >= 0 && at[j] >= from; j--) {
+                at[j] += delta;
+            }
+        }
+        positions.epoch = this.logSize;
+    }
+
+    /**
+     * Helper method that records a value as stored at a position, after any shift the insertion caused has been logged.
+     * @param value the value stored
+     * @param position where it is stored
+     */
+    private void addPosition(T value, int position) {
+        Positions positions = this.index.get(value);
+        if (positions == null) {
+            this.index.put(value, new Positions(position, this.logSize));
+            return;
+        }
+        this.catchUp(positions);
+        positions.insert(position);
+    }
+
+    /**
+     * Helper method that forgets a value's position, before any shift the removal causes is logged, and drops the value
+     * from the index once it has no positions left.
+     * @param value the value that was stored
+     * @param position where it was stored
+     */
+    private void removePosition(Object value, int position) {
+        Positions positions = this.index.get(value);
+        this.catchUp(positions);
+        positions.delete(position);
+        if (positions.count == 0) {
+            this.index.remove(value);
+        }
+    }
+
+    /**
+     * The positions one value is stored at, sorted, as of the log length epoch.
+     */
+    private static final class Positions {
+        private int[] at;
+        private int count;
+        private int epoch;
+
+        /**
+         * Constructor for Positions.
+         * @param position the value's first position
+         * @param epoch the log length the position is up to date with
+         */
+        Positions(int position, int epoch) {
+            this.at = new int[] { position };
+            this.count = 1;
+            this.epoch = epoch;
+        }
+
+        /**
+         * Adds a position after all the others.
+         * @param position the position to add
+         */
+        void append(int position) {
+            if (this.count == this.at.length) {
+                this.at = Arrays.copyOf(this.at, this.count * 2);
+            }
+            this.at[this.count++] = position;
+        }
+
+        /**
+         * Adds a position in sorted order. The positions at or after it have already been shifted up by one, so it is not
+         * already present.
+         * @param position the position to add
+         */
+        void insert(int position) {
+            this.append(position);
+            int j = this.count - 1;
+            while (j > 0 && this.at[j - 1] > position) {
+                this.at[j] = this.at[j - 1];
+                j--;
+            }
+            this.at[j] = position;
+        }
+
+        /**
+         * Removes a position, found by binary search.
+         * @param position the position to remove
+         * @throws IllegalStateException if the position is not present, which means the index is out of date
+         */
+        void delete(int position) {
+            int j = Arrays.binarySearch(this.at, 0, this.count, position);
+            if (j < 0) {
+                throw new IllegalStateException("index is out of date");
+            }
+            System.arraycopy(this.at, j + 1, this.at, j, this.count - j - 1);
+            this.count--;
+        }
+    }
+
+    /**
+     * Private inner class to implement the iterator for the HashIndexedList class. remove() goes through the list's own
+     * remove, so the index stays up to date.
+     */
+    private class HashIndexedListIterator implements Iterator<T> {
+        private int currentIndex;
+        //Index of the element next() returned last, or -1 if remove() has been called since.
+        private int lastIndex = -1;
+        private int expectedModCount = HashIndexedList.this.elements.modCount;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < HashIndexedList.this.elements.size;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate
+         * through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public T next() {
+            if (HashIndexedList.this.elements.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastIndex = this.currentIndex;
+            return HashIndexedList.this.elements.get(this.currentIndex++);
+        }
+
+        /**
+         * Removes the element next() returned last, through HashIndexedList.remove.
+         * @throws IllegalStateException if next() has not been called, or remove() has already been called since
+         * @throws ConcurrentModificationException if the list's size has changed other than through this iterator
+         */
+        public void remove() {
+            if (this.lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (HashIndexedList.this.elements.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            HashIndexedList.this.remove(this.lastIndex);
+            this.currentIndex = this.lastIndex;
+            this.lastIndex = -1;
+            this.expectedModCount = HashIndexedList.this.elements.modCount;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import java.util.Random;
+
+/**
+ * Lookup and mutation benchmark for HashIndexedList against a plain DynamicArray searched by a linear scan over get(i).
+ *
+ * Lists hold the Integers 0 to n-1 in random order. Lookups are indexOf on keys that are present and contains on keys
+ * that are not. Mutations are a random add(index, v) followed by a random remove(index), timed on their own and with an
+ * indexOf after every mutation, so the index's shift log is both filled and replayed. The first lookup on a
+ * HashIndexedList builds its index, and that build is timed separately.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java HashIndexedListBenchmark
+ */
+public class HashIndexedListBenchmark {
+    private static final int[] SIZES = { 10000, 100000, 1000000 };
+    private static final int LOOKUPS = 1000000;
+    private static final int SCAN_LOOKUPS = 1000;
+    private static final int MUTATIONS = 2000;
+    private static final int REPS = 3;
+
+    // Note: each timing is the best of REPS runs.
+    public static void main(String[] args) {
+        System.out.println("HashIndexedList vs DynamicArray + linear scan, lists of n distinct Integers");
+        System.out.println("Each timing is the best of " + REPS + " runs.\n");
+        for (int n : SIZES) {
+            Integer[] values = shuffled(n);
+            DynamicArray<Integer> plain = new DynamicArray<>(n);
+            HashIndexedList<Integer> indexed = new HashIndexedList<>(n);
+            for (Integer value : values) {
+                plain.add(value);
+                indexed.add(value);
+            }
+            long start = System.nanoTime();
+            check(indexed.indexOf(values[0]) == 0);
+            double buildMs = (System.nanoTime() - start) / 1e6;
+
+            System.out.println("n = " + n + String.format("   (building the index took %.2f ms)", buildMs));
+            System.out.println(String.format("  indexOf, present    scan %12.1f ns   HashIndexedList %7.1f ns",
+                    timeScanLookups(plain, n, true), timeIndexedLookups(indexed, n, true)));
+            System.out.println(String.format("  contains, absent    scan %12.1f ns   HashIndexedList %7.1f ns",
+                    timeScanLookups(plain, n, false), timeIndexedLookups(indexed, n, false)));
+            System.out.println(String.format("  add + remove        DynamicArray %8.2f us   HashIndexedList %7.2f us",
+                    timeMutations(plain, null, n, false), timeMutations(null, indexed, n, false)));
+            System.out.println(String.format("  add + remove + indexOf  scan %8.2f us   HashIndexedList %7.2f us",
+                    timeMutations(plain, null, n, true), timeMutations(null, indexed, n, true)));
+            System.out.println();
+        }
+    }
+
+    private static Integer[] shuffled(int n) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static int scan(DynamicArray<Integer> list, Integer key) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return ns per lookup
+     */
+    private static double timeScanLookups(DynamicArray<Integer> list, int n, boolean present) {
+        Random random = new Random(7);
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SCAN_LOOKUPS; i++) {
+                sink += scan(list, present ? random.nextInt(n) : n + random.nextInt(n));
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sink != Long.MIN_VALUE);
+        return (double) best / SCAN_LOOKUPS;
+    }
+
+    /**
+     * @return ns per lookup
+     */
+    private static double timeIndexedLookups(HashIndexedList<Integer> list, int n, boolean present) {
+        Random random = new Random(7);
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (present) {
+                    sink += list.indexOf(random.nextInt(n));
+                } else {
+                    sink += list.contains(n + random.nextInt(n)) ? 1 : 0;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sink != Long.MIN_VALUE);
+        return (double) best / LOOKUPS;
+    }
+
+    /**
+     * Times MUTATIONS rounds of a random add(index, v) and a random remove(index) on whichever list is not null, each
+     * followed by an indexOf if lookups is true. The list is the same size before and after.
+     * @return us per round
+     */
+    private static double timeMutations(DynamicArray<Integer> plain, HashIndexedList<Integer> indexed, int n, boolean lookups) {
+        Random random = new Random(7);
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MUTATIONS; i++) {
+                int at = random.nextInt(n);
+                Integer key = random.nextInt(n);
+                if (plain != null) {
+                    plain.add(at, n + i);
+                    if (lookups) {
+                        sink += scan(plain, key);
+                    }
+                    check(plain.remove(at) == n + i);
+                    if (lookups) {
+                        sink += scan(plain, key);
+                    }
+                } else {
+                    indexed.add(at, n + i);
+                    if (lookups) {
+                        sink += indexed.indexOf(key);
+                    }
+                    check(indexed.remove(at) == n + i);
+                    if (lookups) {
+                        sink += indexed.indexOf(key);
+                    }
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sink != Long.MIN_VALUE);
+        return best / 1e3 / MUTATIONS;
+    }
+
+    private static void check(boolean condition) {
+        if (!condition) {
+            throw new IllegalStateException("wrong result");
+        }
+    }
+}
@@ -0,0 +1,570 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Class to implement a linked list with skip-list express lanes. Level 0 is an ordinary singly
+ * linked chain in list order. Each higher level links a random subset of the nodes and stores,
+ * for every link, how many level-0 steps it skips (its width). Index operations ride the express
+ * lanes, adding up widths, so get, set, add, remove and splitTransfer by index take expected
+ * O(log n) instead of a walk from the head.
+ * <p>
+ * Every link also has a back pointer, so the position of a node can be recovered in expected
+ * O(log n). That keeps the node-handle operations (addAfter, removeAfter) available.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ * @version Spring 2026
+ */
+public class IndexedSkipList<T> implements ListADT<T>, Iterable<T> {
+
+    /**
+     * The most levels a node can have. 32 levels with a promotion chance of one half covers any int-sized list.
+     */
+    static final int MAX_LEVEL = 32;
+
+    /**
+     * Sentinel node before the first element. It has every level and sits at position 0; the element at index i sits at position i+1.
+     */
+    private final Node<T> header;
+    /**
+     * The last node of the list. If the list is empty, tail is null.
+     */
+    private Node<T> tail;
+    /**
+     * The number of elements in the list.
+     */
+    private int size;
+    /**
+     * The number of levels currently in use, at least 1.
+     */
+    private int level;
+    /**
+     * Source of the coin flips that choose node heights.
+     */
+    private final Random random;
+
+    /**
+     * Constructor to create an empty list.
+     */
+    public IndexedSkipList() {
+        this.header = new Node<T>(null, MAX_LEVEL);
+        this.tail = null;
+        this.size = 0;
+        this.level = 1;
+        this.random = new Random();
+    }
+
+    /** Copy Constructor. The copy is built front to back in O(n).
+     * @param other the IndexedSkipList to be copied
+     */
+    public IndexedSkipList(IndexedSkipList<T> other) {
+        this();
+        this.appendFrom(other.header.next[0]);
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Accesses element at a given index in expected O(log n).
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        return this.getNode(index).data;
+    }
+
+    /**
+     * Sets the value at the given index in expected O(log n).
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        Node<T> node = this.getNode(index);
+        T prevValue = node.data;
+        node.data = value;
+        return prevValue;
+    }
+
+    /**
+     * Adds element to existing list in expected O(log n).
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.insertAt(index, value);
+    }
+
+    /**
+     * Removes item from list at given index in expected O(log n).
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        checkIndex(index);
+        return this.removeAt(index);
+    }
+
+    /**
+     * Helper method to get the node at a given index in expected O(log n).
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the node at the index specified
+     */
+    public Node<T> getNode(int index) {
+        checkIndex(index);
+        int target = index + 1;
+        Node<T> x = this.header;
+        int position = 0;
+        for (int l = this.level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.width[l] <= target) {
+                position += x.width[l];
+                x = x.next[l];
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Finds the index of a node of this list in expected O(log n) by following back pointers up the express lanes to the header.
+     * @param node a node of this list
+     * @return the index of the node
+     * @throws IllegalArgumentException if the node is not in this list
+     */
+    public int indexOf(Node<T> node) {
+        int position = 0;
+        Node<T> x = node;
+        while (x.prev[0] != null) {
+            int l = x.next.length - 1;
+            Node<T> before = x.prev[l];
+            position += before.width[l];
+            x = before;
+        }
+        if (x != this.header) {
+            throw new IllegalArgumentException();
+        }
+        return position - 1;
+    }
+
+    /**
+     * Gets the head (first element) of the list.
+     * @return the head node of the list
+     */
+    public Node<T> getHead() {
+        return this.header.next[0];
+    }
+
+    /**
+     * Gets the tail (last element) of the list.
+     * @return the tail node of the list
+     */
+    public Node<T> getTail() {
+        return this.tail;
+    }
+
+    /**
+     * Adds element to the front of the list.
+     * @param value the element to be added to the front of the list
+     */
+    public void addFirst(T value) {
+        this.insertAt(0, value);
+    }
+
+    /**
+     * Adds element to the end of the list.
+     * @param value the element to be added to the end of the list
+     */
+    public void addLast(T value) {
+        this.insertAt(this.size, value);
+    }
+
+    /**
+     * Removes the first element from the list.
+     * @return the original first element
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeFirst() {
+        if (this.size == 0) {
+            throw new IllegalStateException();
+        }
+        return this.removeAt(0);
+    }
+
+    /**
+     * Removes the last element from the list in expected O(log n).
+     * @return the original last element
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeLast() {
+        if (this.size == 0) {
+            throw new IllegalStateException();
+        }
+        return this.removeAt(this.size - 1);
+    }
+
+    /**
+     * Adds element after the given node. If node is null, insert at the head.
+     * @param node the node after which the new element should be added
+     * @param value the element to be added
+     * @throws IllegalArgumentException if the node is not in this list
+     */
+    public void addAfter(Node<T> node, T value) {
+        if (node == null) {
+            this.addFirst(value);
+            return;
+        }
+        this.insertAt(this.indexOf(node) + 1, value);
+    }
+
+    /**
+     * Removes the element after the given node. If node is null, remove the head.
+     * @param node the node after which the element should be removed
+     * @return the element that was removed
+     * @throws IllegalArgumentException if the node is not in this list
+     * @throws IllegalStateException if there is no element after the node
+     */
+    public T removeAfter(Node<T> node) {
+        if (node == null) {
+            return this.removeFirst();
+        }
+        int index = this.indexOf(node) + 1;
+        if (index == this.size) {
+            throw new IllegalStateException();
+        }
+        return this.removeAt(index);
+    }
+
+    /**
+     * Splits the list into two lists at a given index. The original list remains unchanged, and the new list contains copies of the links to the elements from index to size-1.
+     * @param index the index at which to split the list
+     * @return a new IndexedSkipList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public IndexedSkipList<T> splitCopy(int index) {
+        checkSplitIndex(index);
+        IndexedSkipList<T> newList = new IndexedSkipList<T>();
+        if (index < this.size) {
+            newList.appendFrom(this.getNode(index));
+        }
+        return newList;
+    }
+
+    /**
+     * Splits the list into two lists at a given index in expected O(log n). The original list keeps the elements from index 0 to index-1, and the new list takes the nodes from index to size-1. Only the links that cross the split point are cut and rewired.
+     * @param index the index at which to split the list
+     * @return a new IndexedSkipList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public IndexedSkipList<T> splitTransfer(int index) {
+        checkSplitIndex(index);
+        IndexedSkipList<T> newList = new IndexedSkipList<T>();
+        if (index == this.size) {
+            return newList;
+        }
+        Node<T>[] update = makeNodeArray(MAX_LEVEL);
+        int[] updatePosition = new int[MAX_LEVEL];
+        this.findPredecessors(index + 1, update, updatePosition);
+        for (int l = 0; l < this.level; l++) {
+            Node<T> first = update[l].next[l];
+            if (first != null) {
+                newList.header.next[l] = first;
+                newList.header.width[l] = updatePosition[l] + update[l].width[l] - index;
+                first.prev[l] = newList.header;
+                update[l].next[l] = null;
+            }
+        }
+        newList.level = this.level;
+        newList.tail = this.tail;
+        newList.size = this.size - index;
+        newList.trimLevels();
+        this.tail = (update[0] == this.header) ? null : update[0];
+        this.size = index;
+        this.trimLevels();
+        return newList;
+    }
+
+    /**
+     * Converts the list to a string.
+     * @return list in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (Node<T> x = this.header.next[0]; x != null; x = x.next[0]) {
+            returnString.append(x.data);
+            if (x.next[0] != null) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Helper method that fills update[l] with the last node before the given position on each level, and updatePosition[l] with that node's position.
+     * @param target the position (index + 1) to stop before
+     * @param update receives the predecessor on each level
+     * @param updatePosition receives the position of each predecessor
+     */
+    private void findPredecessors(int target, Node<T>[] update, int[] updatePosition) {
+        Node<T> x = this.header;
+        int position = 0;
+        for (int l = this.level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.width[l] < target) {
+                position += x.width[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            updatePosition[l] = position;
+        }
+    }
+
+    /**
+     * Helper method that inserts a new node with a random height at the given index. Links the new node spans are split around it; links passing over it grow by one.
+     * @param index the index of the new element, from 0 to size
+     * @param value the value to insert
+     */
+    private void insertAt(int index, T value) {
+        int target = index + 1;
+        Node<T>[] update = makeNodeArray(MAX_LEVEL);
+        int[] updatePosition = new int[MAX_LEVEL];
+        this.findPredecessors(target, update, updatePosition);
+        int height = this.randomHeight();
+        for (int l = this.level; l < height; l++) {
+            update[l] = this.header;
+            updatePosition[l] = 0;
+        }
+        this.level = Math.max(this.level, height);
+        Node<T> node = new Node<T>(value, height);
+        for (int l = 0; l < height; l++) {
+            Node<T> before = update[l];
+            node.next[l] = before.next[l];
+            if (node.next[l] != null) {
+                node.width[l] = updatePosition[l] + before.width[l] + 1 - target;
+                node.next[l].prev[l] = node;
+            }
+            before.next[l] = node;
+            before.width[l] = target - updatePosition[l];
+            node.prev[l] = before;
+        }
+        for (int l = height; l < this.level; l++) {
+            if (update[l].next[l] != null) {
+                update[l].width[l]++;
+            }
+        }
+        if (node.next[0] == null) {
+            this.tail = node;
+        }
+        this.size++;
+    }
+
+    /**
+     * Helper method that unlinks the node at the given index. Links into the node are joined with its outgoing links; links passing over it shrink by one.
+     * @param index the index of the element to remove
+     * @return the removed value
+     */
+    private T removeAt(int index) {
+        Node<T>[] update = makeNodeArray(MAX_LEVEL);
+        this.findPredecessors(index + 1, update, new int[MAX_LEVEL]);
+        Node<T> target = update[0].next[0];
+        for (int l = 0; l < this.level; l++) {
+            Node<T> before = update[l];
+            if (before.next[l] == target) {
+                before.next[l] = target.next[l];
+                if (target.next[l] != null) {
+                    before.width[l] += target.width[l] - 1;
+                    target.next[l].prev[l] = before;
+                }
+                target.prev[l] = null;
+            } else if (before.next[l] != null) {
+                before.width[l]--;
+            }
+        }
+        if (this.tail == target) {
+            this.tail = (update[0] == this.header) ? null : update[0];
+        }
+        this.size--;
+        this.trimLevels();
+        return target.data;
+    }
+
+    /**
+     * Helper method that links copies of the given node and every node after it onto the end of this list, in O(1) per node. Only valid while this list is empty.
+     * @param first the first node to copy, or null for none
+     */
+    private void appendFrom(Node<T> first) {
+        Node<T>[] last = makeNodeArray(MAX_LEVEL);
+        int[] lastPosition = new int[MAX_LEVEL];
+        Arrays.fill(last, this.header);
+        int position = 0;
+        for (Node<T> x = first; x != null; x = x.next[0]) {
+            position++;
+            int height = this.randomHeight();
+            Node<T> node = new Node<T>(x.data, height);
+            for (int l = 0; l < height; l++) {
+                last[l].next[l] = node;
+                last[l].width[l] = position - lastPosition[l];
+                node.prev[l] = last[l];
+                last[l] = node;
+                lastPosition[l] = position;
+            }
+            this.level = Math.max(this.level, height);
+            this.tail = node;
+        }
+        this.size = position;
+    }
+
+    /**
+     * Helper method that drops empty levels from the top so searches do not start on them.
+     */
+    private void trimLevels() {
+        while (this.level > 1 && this.header.next[this.level - 1] == null) {
+            this.level--;
+        }
+    }
+
+    /**
+     * Picks a node height: 1, plus one more level for each consecutive heads on a fair coin.
+     * @return a height from 1 to MAX_LEVEL
+     */
+    private int randomHeight() {
+        int height = 1;
+        while (height < MAX_LEVEL && this.random.nextBoolean()) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Creates a new generic array of nodes of the given length.
+     * @param <T> the element type of the nodes
+     * @param length the desired length of the array
+     * @return a new array of type Node&lt;T&gt;[] with the given length
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] makeNodeArray(int length) {
+        return (Node<T>[]) new Node<?>[length];
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an iterator for the list. The iterator follows the level-0 links from head to tail.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new IndexedSkipListIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the IndexedSkipList.
+     */
+    private class IndexedSkipListIterator implements Iterator<T> {
+        //Current node that the iterator is at.
+        private Node<T> current = IndexedSkipList.this.header.next[0];
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T data = this.current.data;
+            this.current = this.current.next[0];
+            return data;
+        }
+    }
+
+    /**
+     * A node of an IndexedSkipList. On each of its levels it has a forward link, the width of that link in level-0 steps, and a back link.
+     *
+     * @param <T> the element type
+     */
+    public static class Node<T> {
+        /** The data at the node */
+        private T data;
+        /** Forward link on each level */
+        private final Node<T>[] next;
+        /** Back link on each level; prev[0] is null once the node is removed */
+        private final Node<T>[] prev;
+        /** Number of level-0 steps each forward link covers; unused while the link is null */
+        private final int[] width;
+
+        /**
+         * A constructor
+         * @param data the data at the node
+         * @param height the number of levels the node takes part in
+         */
+        Node(T data, int height) {
+            this.data = data;
+            this.next = makeNodeArray(height);
+            this.prev = makeNodeArray(height);
+            this.width = new int[height];
+        }
+
+        /** @return data field */
+        public T getData() {
+            return this.data;
+        }
+
+        /** @param d new data value */
+        public void setData(T d) {
+            this.data = d;
+        }
+
+        /** @return next node in list order */
+        public Node<T> getNext() {
+            return this.next[0];
+        }
+    }
+}
@@ -0,0 +1,246 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A DynamicArray specialized for int elements, kept unboxed in an int[].
+ *
+ * @author Michelle Jiang
+ */
+public class IntDynamicArray implements Iterable<Integer> {
+    /**
+     * The array that holds the elements of the IntDynamicArray.
+     */
+    int[] data; 
+    /**
+     * The number of elements currently in the IntDynamicArray. 
+     */
+    int size; 
+
+    /**
+     * Constructs an empty IntDynamicArray with an initial capacity of 10.
+     */
+    public IntDynamicArray() {
+        this(10); 
+    }
+
+    /**
+     * Constructs an empty IntDynamicArray with the given initial capacity.
+     * @param capacity the initial capacity of the IntDynamicArray
+     */
+    public IntDynamicArray(int capacity) {
+        this.data = new int[capacity]; 
+        this.size = 0; 
+    }
+
+    /**
+     * Constructs a new IntDynamicArray that is a copy of the given IntDynamicArray.
+     * @param sourceArray the IntDynamicArray to be copied
+     */ 
+    public IntDynamicArray(IntDynamicArray sourceArray) {
+        this.data = Arrays.copyOf(sourceArray.data, sourceArray.data.length);
+        this.size = sourceArray.size; 
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to 
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int returnValue = this.data[index];
+        this.data[index] = value; 
+        return returnValue;
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > this.size) { 
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.size == this.data.length) {
+            this.data = Arrays.copyOf(this.data, this.size*2+1);
+        }
+        System.arraycopy(this.data, index, this.data, index+1, this.size-index);
+        this.data[index] = value;
+        this.size += 1; 
+    }
+
+    /**
+     * Adds element at end of list. 
+     * @param value the element to be added
+     */
+    public void add(int value) { 
+        this.add(this.size, value);
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero. 
+     * @return size of list. 
+     */
+    public int size() {
+        return this.size; 
+    }
+
+    /**
+     * Tests if a list is empty or not. 
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Converts the IntDynamicArray to a string.
+     * @return IntDynamicArray in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("["); 
+        for (int i=0; i<this.size; i++) {
+            returnString.append(this.data[i]);
+            if (i<this.size-1) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Accesses element at a given index. 
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return this.data[index];
+    }
+
+    /**
+     * Removes item from list at given index. 
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int returnValue = this.data[index];
+        System.arraycopy(this.data, index+1, this.data, index, this.size-index-1);
+        this.size -= 1; 
+        return returnValue;
+    }
+
+    /**
+     * Appends the elements of the given array to the end of this array, and returns a new IntDynamicArray containing the result.
+     * @param addArray the array to be appended to this array
+     * @return a new IntDynamicArray containing the elements of this array followed by the elements of addArray
+     */
+    public IntDynamicArray append(IntDynamicArray addArray) {
+        return this.addAll(this.size, addArray);
+    }
+
+    /**
+     * Adds the elements of the given array to the index of this array, and returns a new IntDynamicArray containing the result.
+     * @param index the index at which to insert the elements of addArray
+     * @param addArray the array to be added to this array
+     * @return a new IntDynamicArray containing the elements of this array with the elements of addArray inserted at the specified index
+     */
+    public IntDynamicArray addAll(int index, IntDynamicArray addArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        IntDynamicArray newArray = new IntDynamicArray(addArray.size+this.size);
+        System.arraycopy(this.data, 0, newArray.data, 0, index);
+        System.arraycopy(addArray.data, 0, newArray.data, index, addArray.size);
+        System.arraycopy(this.data, index, newArray.data, index+addArray.size, this.size-index);
+        newArray.size = this.size + addArray.size;
+        return newArray;
+    }
+
+    /**
+     * Returns a new IntDynamicArray containing the elements of this array from the given index to the end of the array. The original array is not modified.
+     * @param index the index from which to start copying elements
+     * @return a new IntDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public IntDynamicArray splitCopy(int index) { 
+        checkSplitIndex(index);
+        IntDynamicArray newArray = new IntDynamicArray(this.size - index);
+        System.arraycopy(this.data, index, newArray.data, 0, this.size - index);
+        newArray.size = this.size - index;
+        return newArray;
+    }
+
+    /**
+     * Returns a new IntDynamicArray containing the elements of this array from the given index to the end of the array. The original array is modified to remove these elements.
+     * @param index the index from which to start transferring elements
+     * @return a new IntDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public IntDynamicArray splitTransfer(int index) {
+        IntDynamicArray newArray = this.splitCopy(index);
+        this.size = index;
+        return newArray;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an iterator for the list that hands out int values without boxing through nextInt().
+     * @return an iterator for the list
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntDynamicArrayIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the IntDynamicArray. The iterator walks the elements in order from index 0 to size-1.
+     */
+    private class IntDynamicArrayIterator implements PrimitiveIterator.OfInt {
+        private int currentIndex;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < IntDynamicArray.this.size;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public int nextInt() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return IntDynamicArray.this.data[this.currentIndex++];
+        }
+    }
+}
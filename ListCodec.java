@@ -0,0 +1,302 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes DynamicArray and SLL contents to a channel in a compact binary form, and reads them back.
+ *
+ * A list is written as a 12-byte header (magic number, flags, element count) followed by the elements, each converted by an
+ * ElementEncoder. Elements are encoded straight from the array or node chain into a chunk buffer, which is written to the
+ * channel whenever it fills, so memory use is bounded by the chunk size however long the list is.
+ *
+ * With framing on, every chunk is preceded by its length in bytes. A reader then never reads past the end of the list, so
+ * several lists (or other data) can follow each other on one channel. Without framing, the reader may read ahead into
+ * whatever follows the list, so an unframed list should be the last thing on its channel.
+ *
+ * A ListCodec holds its encoder's state and must not be used by two threads at once.
+ *
+ * @param <T> the type of element in the lists
+ * @author Michelle Jiang
+ */
+public class ListCodec<T> {
+    /**
+     * Identifies a list written by ListCodec ("LSC1").
+     */
+    static final int MAGIC = 0x4C534331;
+    /**
+     * Header flag: chunks are preceded by their length.
+     */
+    static final int FRAMED = 1;
+    /**
+     * The number of header bytes.
+     */
+    static final int HEADER_BYTES = 12;
+    /**
+     * The default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_BYTES = 64 * 1024;
+    /**
+     * The most elements readDynamicArray presizes for. The element count comes from the header, which may be corrupt or
+     * hostile, so a larger list grows as it is read rather than trusting the count with one allocation.
+     */
+    static final int MAX_PRESIZE = 1 << 16;
+
+    /**
+     * Converts elements to and from bytes.
+     */
+    private final ElementEncoder<T> encoder;
+    /**
+     * Whether written chunks are preceded by their length.
+     */
+    private final boolean framed;
+    /**
+     * The most element bytes in one chunk.
+     */
+    private final int chunkBytes;
+
+    /**
+     * Constructs an unframed codec with 64 KB chunks.
+     * @param encoder converts elements to and from bytes
+     */
+    public ListCodec(ElementEncoder<T> encoder) {
+        this(encoder, false, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a codec.
+     * @param encoder converts elements to and from bytes
+     * @param framed whether to precede each chunk with its length
+     * @param chunkBytes the most element bytes written to the channel at once
+     * @throws IllegalArgumentException if chunkBytes is smaller than the encoder's maxBytes()
+     */
+    public ListCodec(ElementEncoder<T> encoder, boolean framed, int chunkBytes) {
+        if (chunkBytes < encoder.maxBytes()) {
+            throw new IllegalArgumentException("chunk smaller than one element");
+        }
+        this.encoder = encoder;
+        this.framed = framed;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Writes the elements of a DynamicArray to a channel.
+     * @param list the list to write
+     * @param out the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public void write(DynamicArray<T> list, WritableByteChannel out) throws IOException {
+        ChunkWriter writer = new ChunkWriter(out, list.size);
+        for (int i = 0; i < list.size; i++) {
+            writer.write(list.data[list.offset + i]);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Writes the elements of an SLL to a channel.
+     * @param list the list to write
+     * @param out the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public void write(SLL<T> list, WritableByteChannel out) throws IOException {
+        ChunkWriter writer = new ChunkWriter(out, list.size());
+        for (NodeSL<T> node = list.getHead(); node != null; node = node.getNext()) {
+            writer.write(node.getData());
+        }
+        writer.finish();
+    }
+
+    /**
+     * Reads a list written by write() into a new DynamicArray, sized from the header (up to MAX_PRESIZE elements) so a list
+     * of up to that many elements never grows while reading.
+     * @param in the channel to read from
+     * @return a DynamicArray holding the elements read
+     * @throws IOException if the channel cannot be read, ends early, or does not hold a list
+     */
+    public DynamicArray<T> readDynamicArray(ReadableByteChannel in) throws IOException {
+        ChunkReader reader = new ChunkReader(in);
+        DynamicArray<T> list = new DynamicArray<>(Math.min(reader.count, MAX_PRESIZE));
+        for (int i = 0; i < reader.count; i++) {
+            list.add(reader.read());
+        }
+        return list;
+    }
+
+    /**
+     * Reads a list written by write() into a new SLL.
+     * @param in the channel to read from
+     * @return an SLL holding the elements read
+     * @throws IOException if the channel cannot be read, ends early, or does not hold a list
+     */
+    public SLL<T> readSLL(ReadableByteChannel in) throws IOException {
+        ChunkReader reader = new ChunkReader(in);
+        SLL<T> list = new SLL<>();
+        for (int i = 0; i < reader.count; i++) {
+            list.addLast(reader.read());
+        }
+        return list;
+    }
+
+    /**
+     * Writes the whole buffer, looping until the channel has taken every byte.
+     */
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Fills the rest of the buffer, looping until it is full.
+     * @throws EOFException if the channel ends first
+     */
+    private static void readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("list ended early");
+            }
+        }
+    }
+
+    /**
+     * Encodes elements into a chunk buffer and writes each chunk once it cannot hold another element.
+     */
+    private class ChunkWriter {
+        private final WritableByteChannel out;
+        private final ByteBuffer chunk;
+        /**
+         * The number of bytes reserved at the start of each chunk for its length.
+         */
+        private final int prefix;
+
+        /**
+         * Writes the header and prepares the first chunk.
+         * @param out the channel to write to
+         * @param count the number of elements that will be written
+         */
+        ChunkWriter(WritableByteChannel out, int count) throws IOException {
+            this.out = out;
+            this.prefix = ListCodec.this.framed ? Integer.BYTES : 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(ListCodec.this.framed ? FRAMED : 0).putInt(count).flip();
+            writeFully(out, header);
+            this.chunk = ByteBuffer.allocate(this.prefix + ListCodec.this.chunkBytes);
+            this.chunk.position(this.prefix);
+            ListCodec.this.encoder.reset();
+        }
+
+        void write(T value) throws IOException {
+            if (this.chunk.remaining() < ListCodec.this.encoder.maxBytes()) {
+                flush();
+            }
+            ListCodec.this.encoder.encode(this.chunk, value);
+        }
+
+        void finish() throws IOException {
+            if (this.chunk.position() > this.prefix) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            if (this.prefix > 0) {
+                this.chunk.putInt(0, this.chunk.position() - this.prefix);
+            }
+            this.chunk.flip();
+            writeFully(this.out, this.chunk);
+            this.chunk.clear().position(this.prefix);
+        }
+    }
+
+    /**
+     * Reads the header, then refills a chunk buffer as elements are used up. Framed lists are refilled one frame at a time,
+     * and the writer never splits an element across frames. Unframed lists are refilled whenever the buffer may not hold a
+     * whole element.
+     */
+    private class ChunkReader {
+        private final ReadableByteChannel in;
+        private final boolean framed;
+        private ByteBuffer chunk;
+        /**
+         * The number of elements in the list.
+         */
+        final int count;
+        /**
+         * True once an unframed channel has reached its end.
+         */
+        private boolean ended;
+
+        /**
+         * Reads and checks the header.
+         * @param in the channel to read from
+         * @throws IOException if the header is missing or invalid
+         */
+        ChunkReader(ReadableByteChannel in) throws IOException {
+            this.in = in;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(in, header);
+            int flags = header.getInt(4);
+            this.count = header.getInt(8);
+            if (header.getInt(0) != MAGIC || (flags & ~FRAMED) != 0 || this.count < 0) {
+                throw new IOException("not a list written by ListCodec");
+            }
+            this.framed = (flags & FRAMED) != 0;
+            this.chunk = ByteBuffer.allocate(ListCodec.this.encoder.maxBytes() + ListCodec.this.chunkBytes);
+            this.chunk.flip();
+            ListCodec.this.encoder.reset();
+        }
+
+        T read() throws IOException {
+            if (this.framed) {
+                if (!this.chunk.hasRemaining()) {
+                    nextFrame();
+                }
+            } else if (this.chunk.remaining() < ListCodec.this.encoder.maxBytes() && !this.ended) {
+                refill();
+            }
+            try {
+                return ListCodec.this.encoder.decode(this.chunk);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new EOFException("list ended early");
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Reads exactly the next frame, so nothing past the end of the list is consumed.
+         */
+        private void nextFrame() throws IOException {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(this.in, length);
+            int frame = length.getInt(0);
+            if (frame <= 0) {
+                throw new IOException("bad frame length " + frame);
+            }
+            if (frame > this.chunk.capacity()) {
+                // Written with larger chunks than this codec uses.
+                this.chunk = ByteBuffer.allocate(frame);
+            }
+            this.chunk.clear().limit(frame);
+            readFully(this.in, this.chunk);
+            this.chunk.flip();
+        }
+
+        /**
+         * Keeps any partial element and reads until at least one whole element is buffered or the channel ends.
+         */
+        private void refill() throws IOException {
+            this.chunk.compact();
+            while (this.chunk.position() < ListCodec.this.encoder.maxBytes()) {
+                if (this.in.read(this.chunk) < 0) {
+                    this.ended = true;
+                    break;
+                }
+            }
+            this.chunk.flip();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * A node of a singly linked list, as seen by code that only reads the list. NodeSL and ConcurrentNodeSL both implement
+ * it; how a node's link is changed is left to each node type and the list that owns it.
+ *
+ * @param <T> the type of element stored in the node
+ * @author Michelle Jiang
+ */
+public interface ListNode<T> {
+    /** @return data field */
+    T getData();
+
+    /** @param d new data value */
+    void setData(T d);
+
+    /** @return next node, or null if this is the last node */
+    ListNode<T> getNext();
+}
@@ -0,0 +1,246 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A DynamicArray specialized for long elements, kept unboxed in a long[].
+ *
+ * @author Michelle Jiang
+ */
+public class LongDynamicArray implements Iterable<Long> {
+    /**
+     * The array that holds the elements of the LongDynamicArray.
+     */
+    long[] data; 
+    /**
+     * The number of elements currently in the LongDynamicArray. 
+     */
+    int size; 
+
+    /**
+     * Constructs an empty LongDynamicArray with an initial capacity of 10.
+     */
+    public LongDynamicArray() {
+        this(10); 
+    }
+
+    /**
+     * Constructs an empty LongDynamicArray with the given initial capacity.
+     * @param capacity the initial capacity of the LongDynamicArray
+     */
+    public LongDynamicArray(int capacity) {
+        this.data = new long[capacity]; 
+        this.size = 0; 
+    }
+
+    /**
+     * Constructs a new LongDynamicArray that is a copy of the given LongDynamicArray.
+     * @param sourceArray the LongDynamicArray to be copied
+     */ 
+    public LongDynamicArray(LongDynamicArray sourceArray) {
+        this.data = Arrays.copyOf(sourceArray.data, sourceArray.data.length);
+        this.size = sourceArray.size; 
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to 
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public long set(int index, long value) {
+        checkIndex(index);
+        long returnValue = this.data[index];
+        this.data[index] = value; 
+        return returnValue;
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index > this.size) { 
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.size == this.data.length) {
+            this.data = Arrays.copyOf(this.data, this.size*2+1);
+        }
+        System.arraycopy(this.data, index, this.data, index+1, this.size-index);
+        this.data[index] = value;
+        this.size += 1; 
+    }
+
+    /**
+     * Adds element at end of list. 
+     * @param value the element to be added
+     */
+    public void add(long value) { 
+        this.add(this.size, value);
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero. 
+     * @return size of list. 
+     */
+    public int size() {
+        return this.size; 
+    }
+
+    /**
+     * Tests if a list is empty or not. 
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Converts the LongDynamicArray to a string.
+     * @return LongDynamicArray in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("["); 
+        for (int i=0; i<this.size; i++) {
+            returnString.append(this.data[i]);
+            if (i<this.size-1) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Accesses element at a given index. 
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return this.data[index];
+    }
+
+    /**
+     * Removes item from list at given index. 
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public long remove(int index) {
+        checkIndex(index);
+        long returnValue = this.data[index];
+        System.arraycopy(this.data, index+1, this.data, index, this.size-index-1);
+        this.size -= 1; 
+        return returnValue;
+    }
+
+    /**
+     * Appends the elements of the given array to the end of this array, and returns a new LongDynamicArray containing the result.
+     * @param addArray the array to be appended to this array
+     * @return a new LongDynamicArray containing the elements of this array followed by the elements of addArray
+     */
+    public LongDynamicArray append(LongDynamicArray addArray) {
+        return this.addAll(this.size, addArray);
+    }
+
+    /**
+     * Adds the elements of the given array to the index of this array, and returns a new LongDynamicArray containing the result.
+     * @param index the index at which to insert the elements of addArray
+     * @param addArray the array to be added to this array
+     * @return a new LongDynamicArray containing the elements of this array with the elements of addArray inserted at the specified index
+     */
+    public LongDynamicArray addAll(int index, LongDynamicArray addArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        LongDynamicArray newArray = new LongDynamicArray(addArray.size+this.size);
+        System.arraycopy(this.data, 0, newArray.data, 0, index);
+        System.arraycopy(addArray.data, 0, newArray.data, index, addArray.size);
+        System.arraycopy(this.data, index, newArray.data, index+addArray.size, this.size-index);
+        newArray.size = this.size + addArray.size;
+        return newArray;
+    }
+
+    /**
+     * Returns a new LongDynamicArray containing the elements of this array from the given index to the end of the array. The original array is not modified.
+     * @param index the index from which to start copying elements
+     * @return a new LongDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public LongDynamicArray splitCopy(int index) { 
+        checkSplitIndex(index);
+        LongDynamicArray newArray = new LongDynamicArray(this.size - index);
+        System.arraycopy(this.data, index, newArray.data, 0, this.size - index);
+        newArray.size = this.size - index;
+        return newArray;
+    }
+
+    /**
+     * Returns a new LongDynamicArray containing the elements of this array from the given index to the end of the array. The original array is modified to remove these elements.
+     * @param index the index from which to start transferring elements
+     * @return a new LongDynamicArray containing the elements of this array from the given index to the end of the array
+     */
+    public LongDynamicArray splitTransfer(int index) {
+        LongDynamicArray newArray = this.splitCopy(index);
+        this.size = index;
+        return newArray;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an iterator for the list that hands out long values without boxing through nextLong().
+     * @return an iterator for the list
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongDynamicArrayIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the LongDynamicArray. The iterator walks the elements in order from index 0 to size-1.
+     */
+    private class LongDynamicArrayIterator implements PrimitiveIterator.OfLong {
+        private int currentIndex;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < LongDynamicArray.this.size;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public long nextLong() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return LongDynamicArray.this.data[this.currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,306 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An OffHeapDynamicArray whose pages are memory-mapped from a file, so the array outlives the process that built it.
+ * Reopening an existing file maps its pages without reading them; the operating system pages elements in as they are touched.
+ *
+ * The file starts with a 16-byte header (magic number, element width, size, capacity) followed by the elements, stored
+ * little-endian so the file reads the same on every platform. Full pages are sliced out of larger mapped regions: each new
+ * region is as large as all the earlier ones together, up to MAX_REGION_BYTES, so growing the array maps O(log n) regions
+ * and reopening a file maps one region per MAX_REGION_BYTES rather than one per page.
+ *
+ * flush() and close() write the elements to disk and then record the size and capacity in the header. Those are the
+ * durability points: after a crash, reopening sees the size recorded by the last of them, and the elements it covers.
+ * splitCopy, splitTransfer and addAll return ordinary OffHeapDynamicArrays; only this array is backed by the file.
+ *
+ * @param <T> the type of element stored in the array
+ * @author Michelle Jiang
+ */
+public class MappedDynamicArray<T> extends OffHeapDynamicArray<T> {
+    /**
+     * Identifies a MappedDynamicArray file ("MDA1").
+     */
+    static final int MAGIC = 0x4D444131;
+    /**
+     * The number of header bytes before the first element.
+     */
+    static final int HEADER_BYTES = 16;
+    /**
+     * The largest region mapped at once.
+     */
+    static final int MAX_REGION_BYTES = 1 << 30;
+
+    /**
+     * The open file.
+     */
+    private final FileChannel channel;
+    /**
+     * The mapped header.
+     */
+    private final MappedByteBuffer header;
+    /**
+     * The regions full pages are sliced from, in file order, or null once the array has been closed. Only the first
+     * regionCount entries are used.
+     */
+    private MappedByteBuffer[] regions = new MappedByteBuffer[4];
+    /**
+     * The index of the first page in each region.
+     */
+    private int[] regionFirstPage = new int[4];
+    /**
+     * The number of regions in use.
+     */
+    private int regionCount;
+    /**
+     * The number of full pages the regions cover, counting from page 0.
+     */
+    private int mappedPages;
+    /**
+     * A lone first page smaller than PAGE_ELEMENTS, mapped on its own, or null if there is none.
+     */
+    private MappedByteBuffer smallPage;
+
+    /**
+     * Constructs an array over an open file whose header has already been checked or written.
+     * @param channel the open file
+     * @param header the mapped header
+     * @param codec converts elements to and from bytes
+     * @param size the number of elements already in the file
+     * @param capacity the number of elements the file has room for
+     * @throws IOException if the file's pages cannot be mapped
+     */
+    private MappedDynamicArray(FileChannel channel, MappedByteBuffer header, ElementCodec<T> codec, int size, int capacity) throws IOException {
+        super(codec, new ByteBuffer[1], 0, 0, size);
+        this.channel = channel;
+        this.header = header;
+        if (capacity < PAGE_ELEMENTS) {
+            if (capacity > 0) {
+                this.smallPage = map(0, capacity);
+                this.pages[0] = page(this.smallPage);
+                this.pageCount = 1;
+            }
+        } else {
+            int pageCount = capacity / PAGE_ELEMENTS;
+            while (this.mappedPages < pageCount) {
+                mapRegion(Math.min(pageCount - this.mappedPages, maxRegionPages()));
+            }
+            this.pages = new ByteBuffer[pageCount];
+            for (int i = 0; i < pageCount; i++) {
+                this.pages[i] = slicePage(i);
+            }
+            this.pageCount = pageCount;
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new, empty array in the given file with an initial capacity of 10. An existing file is overwritten.
+     * @param path the file to create
+     * @param codec converts elements to and from bytes
+     * @param <T> the type of element stored in the array
+     * @return the new array
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static <T> MappedDynamicArray<T> create(Path path, ElementCodec<T> codec) throws IOException {
+        return create(path, codec, 10);
+    }
+
+    /**
+     * Creates a new, empty array in the given file with the given initial capacity. An existing file is overwritten.
+     * @param path the file to create
+     * @param codec converts elements to and from bytes
+     * @param capacity the initial capacity of the array
+     * @param <T> the type of element stored in the array
+     * @return the new array
+     * @throws IllegalArgumentException if the codec's width is not positive or the capacity is negative
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static <T> MappedDynamicArray<T> create(Path path, ElementCodec<T> codec, int capacity) throws IOException {
+        if (codec.width() <= 0 || capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.putInt(0, MAGIC);
+            header.putInt(4, codec.width());
+            MappedDynamicArray<T> array = new MappedDynamicArray<>(channel, header, codec, 0, 0);
+            array.ensureCapacity(capacity);
+            array.flush();
+            return array;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reopens an array previously created in the given file. Only the header is read; elements are paged in when first used.
+     * @param path the file to open
+     * @param codec converts elements to and from bytes; must have the width the file was created with
+     * @param <T> the type of element stored in the array
+     * @return the array stored in the file
+     * @throws IllegalArgumentException if the codec's width does not match the file
+     * @throws IOException if the file cannot be opened or mapped, or is not a MappedDynamicArray file
+     */
+    public static <T> MappedDynamicArray<T> open(Path path, ElementCodec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("not a MappedDynamicArray file: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            int size = header.getInt(8);
+            int capacity = header.getInt(12);
+            if (header.getInt(0) != MAGIC || size < 0 || size > capacity
+                    || (capacity > PAGE_ELEMENTS && capacity % PAGE_ELEMENTS != 0)
+                    || channel.size() < HEADER_BYTES + (long) capacity * header.getInt(4)) {
+                throw new IOException("not a MappedDynamicArray file: " + path);
+            }
+            if (header.getInt(4) != codec.width()) {
+                throw new IllegalArgumentException("file holds " + header.getInt(4) + "-byte elements");
+            }
+            return new MappedDynamicArray<>(channel, header, codec, size, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until every element has been written to disk, then records the current size and capacity in the header and waits
+     * until the header has been written too. The elements go first so the header never covers elements that are not on disk.
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void flush() {
+        checkOpen();
+        if (this.smallPage != null) {
+            this.smallPage.force();
+        }
+        for (int i = 0; i < this.regionCount; i++) {
+            this.regions[i].force();
+        }
+        this.header.putInt(8, this.size);
+        this.header.putInt(12, this.capacity);
+        this.header.force();
+    }
+
+    /**
+     * Records the current size and capacity in the header and closes the file. The mappings are released once the garbage
+     * collector clears the dropped pages. Closing an array that is already closed has no effect.
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        flush();
+        super.close();
+        this.regions = null;
+        this.smallPage = null;
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the file extent of the page at the given position. A lone first page smaller than PAGE_ELEMENTS is mapped on its
+     * own; a full page is sliced from a region, mapping a new region first if no region covers it yet.
+     * @param pageIndex the position the page will take in pages
+     * @param elements the number of elements the page must hold
+     * @return the mapped page
+     */
+    ByteBuffer allocatePage(int pageIndex, int elements) {
+        try {
+            if (elements < PAGE_ELEMENTS) {
+                this.smallPage = map(0, elements);
+                return page(this.smallPage);
+            }
+            this.smallPage = null;
+            while (this.mappedPages <= pageIndex) {
+                mapRegion(Math.min(Math.max(this.mappedPages, 1), maxRegionPages()));
+            }
+            return slicePage(pageIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remaps a lone first page over a larger extent. The elements are already in the file, so nothing is copied.
+     * @param page the current first page
+     * @param elements the number of elements the new page must hold
+     * @return the new first page
+     */
+    ByteBuffer growFirstPage(ByteBuffer page, int elements) {
+        return allocatePage(0, elements);
+    }
+
+    /**
+     * @return the most full pages that fit in one region
+     */
+    private int maxRegionPages() {
+        return Math.max(1, MAX_REGION_BYTES / (PAGE_ELEMENTS * this.width));
+    }
+
+    /**
+     * Maps a region of the given number of full pages right after the pages already mapped.
+     * @param pageCount the number of pages in the region
+     * @throws IOException if the region cannot be mapped
+     */
+    private void mapRegion(int pageCount) throws IOException {
+        if (this.regionCount == this.regions.length) {
+            this.regions = Arrays.copyOf(this.regions, this.regionCount * 2);
+            this.regionFirstPage = Arrays.copyOf(this.regionFirstPage, this.regionCount * 2);
+        }
+        this.regions[this.regionCount] = map(this.mappedPages, pageCount * PAGE_ELEMENTS);
+        this.regionFirstPage[this.regionCount] = this.mappedPages;
+        this.regionCount += 1;
+        this.mappedPages += pageCount;
+    }
+
+    /**
+     * Slices a full page out of the region that covers it.
+     * @param pageIndex the position of the page in pages; must be less than mappedPages
+     * @return the page
+     */
+    private ByteBuffer slicePage(int pageIndex) {
+        int r = this.regionCount - 1;
+        while (this.regionFirstPage[r] > pageIndex) {
+            r--;
+        }
+        int pageBytes = PAGE_ELEMENTS * this.width;
+        return page(this.regions[r].slice((pageIndex - this.regionFirstPage[r]) * pageBytes, pageBytes));
+    }
+
+    /**
+     * @param buffer a mapped extent of the file
+     * @return the buffer in the file's byte order
+     */
+    private static ByteBuffer page(ByteBuffer buffer) {
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Maps an extent of the file, growing the file if it is too short.
+     * @param pageIndex the position of the first page in the extent
+     * @param elements the number of elements the extent must hold
+     * @return the mapping
+     * @throws IOException if the extent cannot be mapped
+     */
+    private MappedByteBuffer map(int pageIndex, int elements) throws IOException {
+        long position = HEADER_BYTES + (long) pageIndex * PAGE_ELEMENTS * this.width;
+        return this.channel.map(FileChannel.MapMode.READ_WRITE, position, (long) elements * this.width);
+    }
+}
@@ -0,0 +1,99 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Startup benchmark: reopening a MappedDynamicArray file vs rebuilding a list element by element with add.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java MappedDynamicArrayBenchmark
+ */
+public class MappedDynamicArrayBenchmark {
+    private static final int[] SIZES = { 100000, 1000000, 10000000 };
+    private static final int REPS = 5;
+
+    // Note: the file is read back from the OS page cache, so the open + sweep row is a warm-cache figure.
+    public static void main(String[] args) throws IOException {
+        System.out.println("Startup: reopen a MappedDynamicArray vs rebuild with add");
+        System.out.println("Each timing is the best of " + REPS + " runs.\n");
+
+        Path file = Files.createTempFile("mapped-dynamic-array", ".bin");
+        try {
+            for (int n : SIZES) {
+                try (MappedDynamicArray<Long> array = MappedDynamicArray.create(file, ElementCodec.LONG)) {
+                    for (int i = 0; i < n; i++) {
+                        array.add((long) i);
+                    }
+                }
+
+                System.out.println("n = " + n);
+                System.out.println("  rebuild DynamicArray<Long>: " + fmt(timeRebuildBoxed(n)) + " us");
+                System.out.println("  rebuild LongDynamicArray:   " + fmt(timeRebuildPrimitive(n)) + " us");
+                System.out.println("  open:                       " + fmt(timeOpen(file, n, false)) + " us");
+                System.out.println("  open + full sweep:          " + fmt(timeOpen(file, n, true)) + " us");
+                System.out.println();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long timeRebuildBoxed(int n) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            DynamicArray<Long> arr = new DynamicArray<>();
+            for (int i = 0; i < n; i++) {
+                arr.add(i, (long) i);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            check(arr.size(), n);
+        }
+        return best / 1000;
+    }
+
+    private static long timeRebuildPrimitive(int n) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            LongDynamicArray arr = new LongDynamicArray();
+            for (int i = 0; i < n; i++) {
+                arr.add(i, i);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            check(arr.size(), n);
+        }
+        return best / 1000;
+    }
+
+    private static long timeOpen(Path file, int n, boolean sweep) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            long sink = 0;
+            long start = System.nanoTime();
+            try (MappedDynamicArray<Long> arr = MappedDynamicArray.open(file, ElementCodec.LONG)) {
+                if (sweep) {
+                    for (int i = 0; i < arr.size(); i++) {
+                        sink += arr.get(i);
+                    }
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                check(arr.size(), n);
+            }
+            if (sink == 42) {
+                System.out.print("");
+            }
+        }
+        return best / 1000;
+    }
+
+    private static void check(int size, int n) {
+        if (size != n) {
+            throw new IllegalStateException("expected " + n + " elements, found " + size);
+        }
+    }
+
+    private static String fmt(long micros) {
+        return String.format("%,d", micros);
+    }
+}
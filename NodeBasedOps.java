@@ -1,15 +1,21 @@
-public interface NodeBasedOps<T> {
+/**
+ * Node-based operations on a singly linked list.
+ *
+ * @param <T> the type of element stored in the list
+ * @param <N> the type of the list's nodes
+ */
+public interface NodeBasedOps<T, N extends ListNode<T>> {
   /** 
    *  Accessor for head node
    *  @return the head node
    */
-  public NodeSL<T> getHead();
+  public N getHead();
   
   /** 
    *  Accessor for tail node
    *  @return the tail node
    */
-  public NodeSL<T> getTail();
+  public N getTail();
 
   /** 
    *  Inserts the given item at the head of the list
@@ -41,7 +47,7 @@ public interface NodeBasedOps<T> {
    *  @param here node to insert after
    *  @param v item to insert 
    */
-  public void addAfter(NodeSL<T> here, T v);
+  public void addAfter(N here, T v);
 
   /** 
    *  Removes the node after the given position.
@@ -49,5 +55,5 @@ public interface NodeBasedOps<T> {
    *  @param here marks position to remove after
    *  @return item removed
    */
-  public T removeAfter(NodeSL<T> here);
+  public T removeAfter(N here);
 }
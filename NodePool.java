@@ -0,0 +1,150 @@
+/**
+ * A bounded free list of NodeSL objects, so that a list which keeps removing and inserting nodes can reuse the removed ones
+ * instead of allocating a new node for every insert.
+ * <p>
+ * An SLL constructed with a pool hands each node it removes to recycle(), and takes nodes for inserts from obtain(). The
+ * pool keeps at most capacity free nodes; nodes beyond that are left for the garbage collector. One pool may be shared by
+ * several lists, as long as they are only used from one thread at a time. perThread() returns a pool that keeps a separate
+ * free list for each thread, for lists that are used from several threads, each under its own lock.
+ * <p>
+ * A recycled node is reused for a different element, so once a list has removed a node, code must not keep using it as a
+ * handle. Lock-free lists such as ConcurrentSLL cannot recycle nodes at all, because another thread may still be walking
+ * through a node after it has been removed; they rely on the garbage collector to know when a node is unreachable.
+ *
+ * @param <T> the type of element stored in the nodes
+ * @author Michelle Jiang
+ */
+public class NodePool<T> {
+    /**
+     * The default number of free nodes a pool keeps.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The most free nodes the pool keeps.
+     */
+    private final int capacity;
+    /**
+     * The first free node. Free nodes are chained through their next links.
+     */
+    private NodeSL<T> free;
+    /**
+     * The number of free nodes.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty pool that keeps up to DEFAULT_CAPACITY free nodes.
+     */
+    public NodePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty pool that keeps up to the given number of free nodes.
+     * @param capacity the most free nodes to keep
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public NodePool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a pool that keeps a separate free list, of up to the given number of nodes, for each thread that uses it. No
+     * locking is needed to take or return a node, and a node removed on one thread is reused by the next insert on the same
+     * thread.
+     * @param <T> the type of element stored in the nodes
+     * @param capacity the most free nodes to keep per thread
+     * @return a pool with a free list per thread
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public static <T> NodePool<T> perThread(int capacity) {
+        return new PerThread<>(capacity);
+    }
+
+    /**
+     * Returns a node holding the given data and link, reusing a free node if there is one.
+     * @param data the data for the node
+     * @param next the next link for the node
+     * @return the node
+     */
+    public NodeSL<T> obtain(T data, NodeSL<T> next) {
+        NodeSL<T> node = this.free;
+        if (node == null) {
+            return new NodeSL<T>(data, next);
+        }
+        this.free = node.getNext();
+        this.size--;
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Returns a node that has been removed from its list to the pool. Its data is cleared so the pool does not keep the
+     * element reachable. If the pool is full, the node is dropped.
+     * @param node a node that is no longer in any list
+     */
+    public void recycle(NodeSL<T> node) {
+        node.setData(null);
+        if (this.size >= this.capacity) {
+            node.setNext(null);
+            return;
+        }
+        node.setNext(this.free);
+        this.free = node;
+        this.size++;
+    }
+
+    /**
+     * Queries the number of free nodes in the pool.
+     * @return the number of free nodes
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Queries the most free nodes the pool keeps.
+     * @return the capacity of the pool
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Private inner class to implement the pool returned by perThread(). Each thread gets its own NodePool the first time it
+     * takes or returns a node.
+     */
+    private static class PerThread<T> extends NodePool<T> {
+        private final ThreadLocal<NodePool<T>> local;
+
+        /**
+         * Constructor for PerThread.
+         * @param capacity the most free nodes to keep per thread
+         */
+        PerThread(int capacity) {
+            super(capacity);
+            this.local = ThreadLocal.withInitial(() -> new NodePool<>(capacity));
+        }
+
+        public NodeSL<T> obtain(T data, NodeSL<T> next) {
+            return this.local.get().obtain(data, next);
+        }
+
+        public void recycle(NodeSL<T> node) {
+            this.local.get().recycle(node);
+        }
+
+        /**
+         * Queries the number of free nodes in the calling thread's free list.
+         * @return the number of free nodes for this thread
+         */
+        public int size() {
+            return this.local.get().size();
+        }
+    }
+}
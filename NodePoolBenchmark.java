@@ -0,0 +1,101 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures time and bytes allocated per operation for the Benchmark workload (addAfter(here, x) followed by
+ * removeAfter(here) in the middle of an SLL) with and without node recycling.
+ *
+ * Allocation is read from the JVM's per-thread allocation counter, so it counts every object the measuring thread
+ * allocates, not only nodes. With a pool the steady state should allocate nothing.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java NodePoolBenchmark
+ */
+public class NodePoolBenchmark {
+    private static final int[] SIZES = { 1000, 100000 };
+    private static final int WARMUP = 200000;
+    private static final int REPS = 2000000;
+    private static final int THREADS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        System.out.println("SLL addAfter/removeAfter pairs: allocation and time per pair");
+        System.out.println("Each figure is over " + REPS + " pairs after " + WARMUP + " warmup pairs.\n");
+
+        for (int n : SIZES) {
+            System.out.println("n = " + n);
+            report("no pool", new SLL<Integer>(), n, threads);
+            report("NodePool", new SLL<Integer>(new NodePool<Integer>()), n, threads);
+            report("NodePool.perThread", new SLL<Integer>(NodePool.<Integer>perThread(NodePool.DEFAULT_CAPACITY)), n, threads);
+            System.out.println();
+        }
+
+        System.out.println(THREADS + " threads, each with its own list, sharing one NodePool.perThread");
+        NodePool<Integer> shared = NodePool.perThread(NodePool.DEFAULT_CAPACITY);
+        long[] bytes = new long[THREADS];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                SLL<Integer> list = build(new SLL<Integer>(shared), SIZES[0]);
+                NodeSL<Integer> here = list.getNode(SIZES[0] / 2);
+                run(list, here, WARMUP);
+                long before = threads.getCurrentThreadAllocatedBytes();
+                run(list, here, REPS);
+                bytes[id] = threads.getCurrentThreadAllocatedBytes() - before;
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (int t = 0; t < THREADS; t++) {
+            System.out.println(String.format("  thread %d: %.2f bytes/pair", t, (double) bytes[t] / REPS));
+        }
+    }
+
+    private static void report(String label, SLL<Integer> list, int n, com.sun.management.ThreadMXBean threads) {
+        build(list, n);
+        NodeSL<Integer> here = list.getNode(n / 2);
+        run(list, here, WARMUP);
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        run(list, here, REPS);
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        System.out.println(String.format("  %-20s %6.2f bytes/pair, %6.2f ns/pair", label, (double) bytes / REPS, (double) elapsed / REPS));
+    }
+
+    private static SLL<Integer> build(SLL<Integer> list, int n) {
+        for (int i = 0; i < n; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private static void run(SLL<Integer> list, NodeSL<Integer> here, int reps) {
+        for (int i = 0; i < reps; i++) {
+            list.addAfter(here, -1);
+            list.removeAfter(here);
+        }
+    }
+
+    /**
+     * @return the JVM's thread bean with per-thread allocation counting switched on
+     * @throws IllegalStateException if this JVM cannot count allocation per thread
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            throw new IllegalStateException("this JVM does not report per-thread allocation");
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("this JVM does not report per-thread allocation");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
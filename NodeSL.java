@@ -1,5 +1,5 @@
   /** Nested class to keep track of nodes */
-  public class NodeSL<T> {
+  public class NodeSL<T> implements ListNode<T> {
       /** The data at the node */
       private T data;
       
@@ -27,7 +27,7 @@
         return next;
       }
 
-      /** @param d new next node */
+      /** @param next new next node */
       public void setNext(NodeSL<T> next) {
         this.next = next;
       }
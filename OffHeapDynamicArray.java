@@ -0,0 +1,450 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A DynamicArray whose elements are stored outside the Java heap, in direct ByteBuffers, and converted by an ElementCodec.
+ * The garbage collector only sees the array object and one small buffer object per page, however many elements there are,
+ * so very large arrays of numbers or fixed-width records add little to heap size or GC pause times.
+ *
+ * Storage is split into pages of PAGE_ELEMENTS elements. Growing past the first page adds new pages instead of copying the
+ * existing ones, and a single ByteBuffer's 2 GB limit does not cap the array's size.
+ *
+ * Call close() when the array is no longer needed. It drops the pages so their native memory is released at the next GC,
+ * and any later use of the array throws IllegalStateException.
+ *
+ * @param <T> the type of element stored in the array
+ * @author Michelle Jiang
+ */
+public class OffHeapDynamicArray<T> implements Iterable<T>, AutoCloseable {
+    /**
+     * log2 of the number of elements per page.
+     */
+    static final int PAGE_SHIFT = 16;
+    /**
+     * The number of elements in every page except a lone first page, which grows by doubling until it reaches this size.
+     */
+    static final int PAGE_ELEMENTS = 1 << PAGE_SHIFT;
+    /**
+     * Masks an element index down to its position within its page.
+     */
+    private static final int PAGE_MASK = PAGE_ELEMENTS - 1;
+
+    /**
+     * Converts elements to and from bytes.
+     */
+    private final ElementCodec<T> codec;
+    /**
+     * The number of bytes per element.
+     */
+    final int width;
+    /**
+     * The pages holding the elements, or null once the array has been closed. Only the first pageCount entries are used.
+     */
+    ByteBuffer[] pages;
+    /**
+     * The number of allocated pages.
+     */
+    int pageCount;
+    /**
+     * The number of elements the allocated pages can hold.
+     */
+    int capacity;
+    /**
+     * The number of elements currently in the array.
+     */
+    int size;
+
+    /**
+     * Constructs an empty OffHeapDynamicArray with an initial capacity of 10.
+     * @param codec converts elements to and from bytes
+     */
+    public OffHeapDynamicArray(ElementCodec<T> codec) {
+        this(codec, 10);
+    }
+
+    /**
+     * Constructs an empty OffHeapDynamicArray with the given initial capacity.
+     * @param codec converts elements to and from bytes
+     * @param capacity the initial capacity of the array
+     * @throws IllegalArgumentException if the codec's width is not positive or the capacity is negative
+     */
+    public OffHeapDynamicArray(ElementCodec<T> codec, int capacity) {
+        if (codec.width() <= 0 || capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.pages = new ByteBuffer[1];
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Constructs an array over pages that already exist, without allocating. Used by subclasses that keep their pages somewhere else.
+     * @param codec converts elements to and from bytes
+     * @param pages the pages holding the elements; may be longer than pageCount
+     * @param pageCount the number of pages in use
+     * @param capacity the number of elements the pages can hold
+     * @param size the number of elements already in the pages
+     */
+    OffHeapDynamicArray(ElementCodec<T> codec, ByteBuffer[] pages, int pageCount, int capacity, int size) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.pages = pages;
+        this.pageCount = pageCount;
+        this.capacity = capacity;
+        this.size = size;
+    }
+
+    /**
+     * Constructs a new OffHeapDynamicArray that is a copy of the given array.
+     * @param sourceArray the array to be copied
+     */
+    public OffHeapDynamicArray(OffHeapDynamicArray<T> sourceArray) {
+        this(sourceArray.codec, sourceArray.size);
+        sourceArray.checkOpen();
+        copy(sourceArray, 0, this, 0, sourceArray.size);
+        this.size = sourceArray.size;
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @throws IllegalStateException if the array has been closed
+     * @return value at specified index
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return this.codec.read(this.pages[index >>> PAGE_SHIFT], (index & PAGE_MASK) * this.width);
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @throws IllegalStateException if the array has been closed
+     */
+    public T set(int index, T value) {
+        T returnValue = this.get(index);
+        this.codec.write(this.pages[index >>> PAGE_SHIFT], (index & PAGE_MASK) * this.width, value);
+        return returnValue;
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void add(int index, T value) {
+        checkSplitIndex(index);
+        ensureCapacity(this.size + 1);
+        copy(this, index, this, index + 1, this.size - index);
+        this.codec.write(this.pages[index >>> PAGE_SHIFT], (index & PAGE_MASK) * this.width, value);
+        this.size += 1;
+    }
+
+    /**
+     * Adds element at end of list.
+     * @param value the element to be added
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void add(T value) {
+        this.add(this.size, value);
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @throws IllegalStateException if the array has been closed
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        T returnValue = this.get(index);
+        copy(this, index + 1, this, index, this.size - index - 1);
+        this.size -= 1;
+        return returnValue;
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Converts the OffHeapDynamicArray to a string.
+     * @return OffHeapDynamicArray in String type
+     * @throws IllegalStateException if the array has been closed
+     */
+    public String toString() {
+        checkOpen();
+        StringBuilder returnString = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            returnString.append(this.get(i));
+            if (i < this.size - 1) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Appends the elements of the given array to the end of this array, and returns a new OffHeapDynamicArray containing the result.
+     * @param addArray the array to be appended to this array
+     * @return a new OffHeapDynamicArray containing the elements of this array followed by the elements of addArray
+     * @throws IllegalStateException if either array has been closed
+     */
+    public OffHeapDynamicArray<T> append(OffHeapDynamicArray<T> addArray) {
+        return this.addAll(this.size, addArray);
+    }
+
+    /**
+     * Adds the elements of the given array to the index of this array, and returns a new OffHeapDynamicArray containing the result.
+     * @param index the index at which to insert the elements of addArray
+     * @param addArray the array to be added to this array
+     * @return a new OffHeapDynamicArray containing the elements of this array with the elements of addArray inserted at the specified index
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     * @throws IllegalArgumentException if addArray uses a codec of a different width
+     * @throws IllegalStateException if either array has been closed
+     */
+    public OffHeapDynamicArray<T> addAll(int index, OffHeapDynamicArray<T> addArray) {
+        checkSplitIndex(index);
+        addArray.checkOpen();
+        if (addArray.width != this.width) {
+            throw new IllegalArgumentException();
+        }
+        OffHeapDynamicArray<T> newArray = new OffHeapDynamicArray<>(this.codec, this.size + addArray.size);
+        copy(this, 0, newArray, 0, index);
+        copy(addArray, 0, newArray, index, addArray.size);
+        copy(this, index, newArray, index + addArray.size, this.size - index);
+        newArray.size = this.size + addArray.size;
+        return newArray;
+    }
+
+    /**
+     * Returns a new OffHeapDynamicArray containing the elements of this array from the given index to the end of the array. The original array is not modified.
+     * @param index the index from which to start copying elements
+     * @return a new OffHeapDynamicArray containing the elements of this array from the given index to the end of the array
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> splitCopy(int index) {
+        checkSplitIndex(index);
+        OffHeapDynamicArray<T> newArray = new OffHeapDynamicArray<>(this.codec, this.size - index);
+        copy(this, index, newArray, 0, this.size - index);
+        newArray.size = this.size - index;
+        return newArray;
+    }
+
+    /**
+     * Returns a new OffHeapDynamicArray containing the elements of this array from the given index to the end of the array. The original array is modified to remove these elements,
+     * and any whole pages it no longer needs are dropped.
+     * @param index the index from which to start transferring elements
+     * @return a new OffHeapDynamicArray containing the elements of this array from the given index to the end of the array
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> splitTransfer(int index) {
+        OffHeapDynamicArray<T> newArray = this.splitCopy(index);
+        this.size = index;
+        if (this.capacity > PAGE_ELEMENTS) {
+            int keep = Math.max(1, (index + PAGE_MASK) >>> PAGE_SHIFT);
+            Arrays.fill(this.pages, keep, this.pageCount, null);
+            this.pageCount = keep;
+            this.capacity = keep * PAGE_ELEMENTS;
+        }
+        return newArray;
+    }
+
+    /**
+     * Makes sure the array can hold at least the given number of elements without allocating again.
+     * @param minCapacity the number of elements the array must be able to hold
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if (minCapacity <= this.capacity) {
+            return;
+        }
+        if (this.capacity < PAGE_ELEMENTS) {
+            // A lone first page grows by doubling, like DynamicArray, so small arrays stay small.
+            int newCapacity = Math.min(Math.max(minCapacity, this.capacity * 2 + 1), PAGE_ELEMENTS);
+            this.pages[0] = this.pageCount == 1 ? growFirstPage(this.pages[0], newCapacity) : allocatePage(0, newCapacity);
+            this.pageCount = 1;
+            this.capacity = newCapacity;
+        }
+        while (this.capacity < minCapacity) {
+            if (this.pageCount == this.pages.length) {
+                this.pages = Arrays.copyOf(this.pages, this.pageCount * 2);
+            }
+            this.pages[this.pageCount] = allocatePage(this.pageCount, PAGE_ELEMENTS);
+            this.pageCount += 1;
+            this.capacity += PAGE_ELEMENTS;
+        }
+    }
+
+    /**
+     * Releases the array's storage. The native memory is freed once the garbage collector clears the dropped pages.
+     * Closing an array that is already closed has no effect.
+     */
+    public void close() {
+        this.pages = null;
+        this.pageCount = 0;
+        this.capacity = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Tests whether the array has been closed.
+     * @return true if close() has been called
+     */
+    public boolean isClosed() {
+        return this.pages == null;
+    }
+
+    /**
+     * Allocates a native-order direct buffer large enough for the given number of elements.
+     * @param pageIndex the position the page will take in pages
+     * @param elements the number of elements the page must hold
+     * @return the new page
+     */
+    ByteBuffer allocatePage(int pageIndex, int elements) {
+        return ByteBuffer.allocateDirect(elements * this.width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Replaces a lone first page with a larger one holding the same elements.
+     * @param page the current first page
+     * @param elements the number of elements the new page must hold
+     * @return the new first page
+     */
+    ByteBuffer growFirstPage(ByteBuffer page, int elements) {
+        ByteBuffer grown = allocatePage(0, elements);
+        grown.put(0, page, 0, this.size * this.width);
+        return grown;
+    }
+
+    /**
+     * Copies count elements from one array to another, or within one array. Overlapping ranges within the same array are handled
+     * by copying back to front when the destination is after the source. Each bulk copy stays within a single page of both arrays.
+     * @param src the array to copy from
+     * @param from the index of the first element to copy
+     * @param dest the array to copy to
+     * @param to the index the first element is copied to
+     * @param count the number of elements to copy
+     */
+    private static void copy(OffHeapDynamicArray<?> src, int from, OffHeapDynamicArray<?> dest, int to, int count) {
+        int width = src.width;
+        if (src == dest && from < to) {
+            while (count > 0) {
+                int srcLast = from + count - 1;
+                int destLast = to + count - 1;
+                int chunk = Math.min(count, Math.min((srcLast & PAGE_MASK) + 1, (destLast & PAGE_MASK) + 1));
+                copyChunk(src, srcLast - chunk + 1, dest, destLast - chunk + 1, chunk, width);
+                count -= chunk;
+            }
+        } else {
+            while (count > 0) {
+                int chunk = Math.min(count, Math.min(PAGE_ELEMENTS - (from & PAGE_MASK), PAGE_ELEMENTS - (to & PAGE_MASK)));
+                copyChunk(src, from, dest, to, chunk, width);
+                from += chunk;
+                to += chunk;
+                count -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Copies count elements that lie within a single page of both arrays.
+     */
+    private static void copyChunk(OffHeapDynamicArray<?> src, int from, OffHeapDynamicArray<?> dest, int to, int count, int width) {
+        dest.pages[to >>> PAGE_SHIFT].put((to & PAGE_MASK) * width, src.pages[from >>> PAGE_SHIFT], (from & PAGE_MASK) * width, count * width);
+    }
+
+    /**
+     * Checks that the array has not been closed.
+     * @throws IllegalStateException if the array has been closed
+     */
+    void checkOpen() {
+        if (this.pages == null) {
+            throw new IllegalStateException("array is closed");
+        }
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an iterator for the list.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new OffHeapDynamicArrayIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the OffHeapDynamicArray. The iterator walks the elements in order from index 0 to size-1.
+     */
+    private class OffHeapDynamicArrayIterator implements Iterator<T> {
+        private int currentIndex;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.currentIndex < OffHeapDynamicArray.this.size;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         * @throws IllegalStateException if the array has been closed
+         */
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return OffHeapDynamicArray.this.get(this.currentIndex++);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bulk operations that run over a DynamicArray's backing array in parallel on a ForkJoinPool.
+ * <p>
+ * The array is divided into blocks of threshold elements, and each block is processed sequentially by one task. A larger
+ * threshold means less scheduling overhead; a smaller one spreads short arrays or expensive per-element work across more
+ * threads. Operations that write to the array copy a shared backing array out first, just like the array's own mutators.
+ * <p>
+ * The functions passed in are called from several threads at once, so they must not depend on shared mutable state, and the
+ * array must not be modified by anything else while an operation runs.
+ *
+ * @author Michelle Jiang
+ */
+public class ParallelOps {
+    /**
+     * The default number of elements each task processes sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * The pool the tasks run in.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The number of elements each task processes sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Constructs a ParallelOps that runs in the common pool with the default threshold.
+     */
+    public ParallelOps() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a ParallelOps that runs in the given pool.
+     * @param pool the pool to run tasks in; its parallelism sets how many cores are used
+     * @param threshold the number of elements each task processes sequentially
+     * @throws IllegalArgumentException if threshold is less than 1
+     */
+    public ParallelOps(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it.
+     * @param list the array to update
+     * @param operator the function to apply to each element
+     * @param <T> the type of element in the array
+     */
+    public <T> void parallelReplaceAll(DynamicArray<T> list, UnaryOperator<T> operator) {
+        list.prepareWrite(list.size);
+        T[] data = list.data;
+        forEachBlock(list.size, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                data[i] = operator.apply(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Returns a new array holding the elements that satisfy the predicate, in their original order. The predicate is tested
+     * once per element in a first pass, which also counts the matches in each block; the second pass copies each block's
+     * matches straight to their final positions in a result array created at its exact final size.
+     * @param list the array to filter
+     * @param predicate the test an element must pass to be kept
+     * @param <T> the type of element in the array
+     * @return a new DynamicArray holding the matching elements
+     */
+    public <T> DynamicArray<T> parallelFilter(DynamicArray<T> list, Predicate<? super T> predicate) {
+        T[] data = list.data;
+        int offset = list.offset;
+        int n = list.size;
+        boolean[] keep = new boolean[n];
+        int[] counts = new int[blockCount(n)];
+        forEachBlock(n, (lo, hi) -> {
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                if (predicate.test(data[offset + i])) {
+                    keep[i] = true;
+                    count++;
+                }
+            }
+            counts[lo / this.threshold] = count;
+        });
+        int total = 0;
+        for (int b = 0; b < counts.length; b++) {
+            int count = counts[b];
+            counts[b] = total;
+            total += count;
+        }
+        DynamicArray<T> result = new DynamicArray<>(total);
+        T[] out = result.data;
+        forEachBlock(n, (lo, hi) -> {
+            int j = counts[lo / this.threshold];
+            for (int i = lo; i < hi; i++) {
+                if (keep[i]) {
+                    out[j++] = data[offset + i];
+                }
+            }
+        });
+        result.size = total;
+        return result;
+    }
+
+    /**
+     * Combines all the elements with an associative operator. Each block is reduced starting from the identity, and the block
+     * results are then combined in order, so the operator need not be commutative.
+     * @param list the array to reduce
+     * @param identity the identity value of the operator
+     * @param operator an associative function combining two values
+     * @param <T> the type of element in the array
+     * @return the combination of all the elements, or identity if the array is empty
+     */
+    public <T> T parallelReduce(DynamicArray<T> list, T identity, BinaryOperator<T> operator) {
+        T[] data = list.data;
+        int offset = list.offset;
+        Object[] partials = new Object[blockCount(list.size)];
+        forEachBlock(list.size, (lo, hi) -> {
+            T acc = identity;
+            for (int i = lo; i < hi; i++) {
+                acc = operator.apply(acc, data[offset + i]);
+            }
+            partials[lo / this.threshold] = acc;
+        });
+        T result = identity;
+        for (Object partial : partials) {
+            @SuppressWarnings("unchecked")
+            T value = (T) partial;
+            result = operator.apply(result, value);
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the array with a stable parallel merge sort. Blocks of threshold elements are sorted with Arrays.sort, and sorted
+     * runs are merged in parallel by splitting each merge around the median of the larger run.
+     * @param list the array to sort
+     * @param comparator the order to sort into
+     * @param <T> the type of element in the array
+     */
+    public <T> void parallelSort(DynamicArray<T> list, Comparator<? super T> comparator) {
+        list.prepareWrite(list.size);
+        int n = list.size;
+        if (n <= this.threshold) {
+            Arrays.sort(list.data, 0, n, comparator);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        T[] scratch = (T[]) new Object[n];
+        this.pool.invoke(new SortTask<>(list.data, scratch, 0, n, comparator, this.threshold));
+    }
+
+    /**
+     * Replaces each element with the combination of itself and every element before it (an inclusive prefix scan). The first
+     * pass reduces each block; the block totals are scanned in order; the second pass scans each block starting from the total
+     * of all the blocks before it.
+     * @param list the array to scan
+     * @param operator an associative function combining two values
+     * @param <T> the type of element in the array
+     */
+    public <T> void parallelPrefix(DynamicArray<T> list, BinaryOperator<T> operator) {
+        list.prepareWrite(list.size);
+        T[] data = list.data;
+        int n = list.size;
+        Object[] totals = new Object[blockCount(n)];
+        forEachBlock(n, (lo, hi) -> {
+            T acc = data[lo];
+            for (int i = lo + 1; i < hi; i++) {
+                acc = operator.apply(acc, data[i]);
+            }
+            totals[lo / this.threshold] = acc;
+        });
+        for (int b = 1; b < totals.length; b++) {
+            @SuppressWarnings("unchecked")
+            T before = (T) totals[b - 1];
+            @SuppressWarnings("unchecked")
+            T total = (T) totals[b];
+            totals[b] = operator.apply(before, total);
+        }
+        forEachBlock(n, (lo, hi) -> {
+            int b = lo / this.threshold;
+            @SuppressWarnings("unchecked")
+            T acc = b == 0 ? data[lo] : operator.apply((T) totals[b - 1], data[lo]);
+            data[lo] = acc;
+            for (int i = lo + 1; i < hi; i++) {
+                acc = operator.apply(acc, data[i]);
+                data[i] = acc;
+            }
+        });
+    }
+
+    /**
+     * A piece of work over the index range [lo, hi) of one block.
+     */
+    private interface Block {
+        void run(int lo, int hi);
+    }
+
+    /**
+     * @param n the number of elements
+     * @return the number of blocks n elements are divided into
+     */
+    private int blockCount(int n) {
+        return (int) (((long) n + this.threshold - 1) / this.threshold);
+    }
+
+    /**
+     * Runs the body once for every block of n elements, in parallel, and waits for all of them to finish.
+     * @param n the number of elements
+     * @param body the work to do for each block
+     */
+    private void forEachBlock(int n, Block body) {
+        int blocks = blockCount(n);
+        if (blocks == 1) {
+            body.run(0, n);
+        } else if (blocks > 1) {
+            this.pool.invoke(new BlockTask(0, blocks, b -> body.run(b * this.threshold, (int) Math.min(n, (long) (b + 1) * this.threshold))));
+        }
+    }
+
+    /**
+     * Runs a body for every block index in [from, to), splitting the range in half until one block is left.
+     */
+    private static class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        BlockTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.body.accept(this.from);
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new BlockTask(this.from, mid, this.body), new BlockTask(mid, this.to, this.body));
+            }
+        }
+    }
+
+    /**
+     * Sorts data[lo, hi) in place, using the same range of scratch as working space. The range is split into quarters, which
+     * are sorted in parallel; the two pairs of quarters are merged into scratch in parallel, and the two halves are then merged
+     * back into data.
+     */
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final T[] data;
+        private final T[] scratch;
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        SortTask(T[] data, T[] scratch, int lo, int hi, Comparator<? super T> comparator, int threshold) {
+            this.data = data;
+            this.scratch = scratch;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        protected void compute() {
+            int n = this.hi - this.lo;
+            if (n <= this.threshold || n < 4) {
+                Arrays.sort(this.data, this.lo, this.hi, this.comparator);
+                return;
+            }
+            int q1 = this.lo + n / 4;
+            int mid = this.lo + n / 2;
+            int q3 = mid + (this.hi - mid) / 2;
+            invokeAll(sort(this.lo, q1), sort(q1, mid), sort(mid, q3), sort(q3, this.hi));
+            invokeAll(new MergeTask<>(this.data, this.lo, q1, q1, mid, this.scratch, this.lo, this.comparator, this.threshold),
+                    new MergeTask<>(this.data, mid, q3, q3, this.hi, this.scratch, mid, this.comparator, this.threshold));
+            new MergeTask<>(this.scratch, this.lo, mid, mid, this.hi, this.data, this.lo, this.comparator, this.threshold).compute();
+        }
+
+        private SortTask<T> sort(int from, int to) {
+            return new SortTask<>(this.data, this.scratch, from, to, this.comparator, this.threshold);
+        }
+    }
+
+    /**
+     * Stably merges the sorted runs src[lo1, hi1) and src[lo2, hi2) into dest starting at position at. Elements from the first
+     * run come before equal elements from the second. A large merge is split around the middle element of the longer run,
+     * whose position in the other run is found by binary search, and the two halves are merged in parallel.
+     */
+    private static class MergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final T[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final T[] dest;
+        private final int at;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        MergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dest, int at, Comparator<? super T> comparator, int threshold) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dest = dest;
+            this.at = at;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        protected void compute() {
+            int n1 = this.hi1 - this.lo1;
+            int n2 = this.hi2 - this.lo2;
+            if (n1 + n2 <= this.threshold || n1 == 0 || n2 == 0 || n1 + n2 == 2) {
+                mergeSequential();
+                return;
+            }
+            int split1;
+            int split2;
+            if (n1 >= n2) {
+                // Elements of the second run equal to the pivot must follow it, so split the second run before them.
+                split1 = (this.lo1 + this.hi1) >>> 1;
+                split2 = search(this.src[split1], this.lo2, this.hi2, false);
+            } else {
+                // Elements of the first run equal to the pivot must precede it, so split the first run after them.
+                split2 = (this.lo2 + this.hi2) >>> 1;
+                split1 = search(this.src[split2], this.lo1, this.hi1, true);
+            }
+            int at2 = this.at + (split1 - this.lo1) + (split2 - this.lo2);
+            invokeAll(new MergeTask<>(this.src, this.lo1, split1, this.lo2, split2, this.dest, this.at, this.comparator, this.threshold),
+                    new MergeTask<>(this.src, split1, this.hi1, split2, this.hi2, this.dest, at2, this.comparator, this.threshold));
+        }
+
+        /**
+         * Finds where the key splits the sorted range src[from, to).
+         * @param key the value to search for
+         * @param from the first index of the range
+         * @param to one past the last index of the range
+         * @param afterEqual true to return the first index whose element is greater than key, false for the first index whose
+         *                   element is greater than or equal to key
+         * @return the split index
+         */
+        private int search(T key, int from, int to, boolean afterEqual) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                int c = this.comparator.compare(this.src[mid], key);
+                if (c < 0 || (afterEqual && c == 0)) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+
+        private void mergeSequential() {
+            int i = this.lo1;
+            int j = this.lo2;
+            int k = this.at;
+            while (i < this.hi1 && j < this.hi2) {
+                if (this.comparator.compare(this.src[j], this.src[i]) < 0) {
+                    this.dest[k++] = this.src[j++];
+                } else {
+                    this.dest[k++] = this.src[i++];
+                }
+            }
+            System.arraycopy(this.src, i, this.dest, k, this.hi1 - i);
+            System.arraycopy(this.src, j, this.dest, k + this.hi1 - i, this.hi2 - j);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling benchmark for ParallelOps: each bulk operation on a {@code DynamicArray<Integer>}, run in pools of 1, 2, 4, ... up to
+ * the number of available cores.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java ParallelOpsBenchmark [maxN]
+ * n runs from 10^4 up to maxN (default 10^7) in powers of ten; 10^8 Integer elements need about -Xmx6g.
+ */
+public class ParallelOpsBenchmark {
+    private static final int REPS = 3;
+
+    // Note: each timing is the best of REPS runs; speedup is relative to the 1-thread pool on the same n.
+    public static void main(String[] args) {
+        int maxN = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("ParallelOps scaling on DynamicArray<Integer>, " + cores + " core(s) available");
+        System.out.println("Each timing is the best of " + REPS + " runs, in ms (speedup vs 1 thread).\n");
+
+        for (long n = 10000; n <= maxN; n *= 10) {
+            DynamicArray<Integer> source = buildShuffled((int) n);
+            System.out.println("n = " + n);
+            double[] base = null;
+            for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads * 2, cores) : threads + 1) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                ParallelOps ops = new ParallelOps(pool, ParallelOps.DEFAULT_THRESHOLD);
+                double[] times = {
+                    timeReplaceAll(ops, source),
+                    timeFilter(ops, source),
+                    timeReduce(ops, source),
+                    timeSort(ops, source),
+                    timePrefix(ops, source)
+                };
+                pool.shutdown();
+                if (base == null) {
+                    base = times;
+                }
+                System.out.println(String.format("  %2d thread(s): replaceAll %s  filter %s  reduce %s  sort %s  prefix %s", threads,
+                        fmt(times[0], base[0]), fmt(times[1], base[1]), fmt(times[2], base[2]), fmt(times[3], base[3]), fmt(times[4], base[4])));
+            }
+            System.out.println();
+        }
+    }
+
+    private static DynamicArray<Integer> buildShuffled(int n) {
+        Random random = new Random(42);
+        DynamicArray<Integer> arr = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            arr.add(random.nextInt());
+        }
+        return arr;
+    }
+
+    private static double timeReplaceAll(ParallelOps ops, DynamicArray<Integer> source) {
+        DynamicArray<Integer> arr = new DynamicArray<>(source);
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            ops.parallelReplaceAll(arr, x -> x * 31 + 7);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    private static double timeFilter(ParallelOps ops, DynamicArray<Integer> source) {
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            sink += ops.parallelFilter(source, x -> (x & 1) == 0).size();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return best / 1e6;
+    }
+
+    private static double timeReduce(ParallelOps ops, DynamicArray<Integer> source) {
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            sink += ops.parallelReduce(source, 0, Integer::sum);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return best / 1e6;
+    }
+
+    private static double timeSort(ParallelOps ops, DynamicArray<Integer> source) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            DynamicArray<Integer> arr = new DynamicArray<>(source);
+            long start = System.nanoTime();
+            ops.parallelSort(arr, Comparator.naturalOrder());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    private static double timePrefix(ParallelOps ops, DynamicArray<Integer> source) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            DynamicArray<Integer> arr = new DynamicArray<>(source);
+            long start = System.nanoTime();
+            ops.parallelPrefix(arr, Integer::sum);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    private static String fmt(double ms, double baseMs) {
+        return String.format("%,9.2f (%.1fx)", ms, baseMs / ms);
+    }
+}
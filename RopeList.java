@@ -0,0 +1,586 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list stored as a rope: a height-balanced (AVL) binary tree whose leaves are small arrays of
+ * elements and whose branches record the size of their subtree. Tree nodes are never modified
+ * after they are built, so lists can share subtrees safely. Splitting and joining therefore only
+ * rebuild the O(log n) nodes along one path and never copy elements beyond a single leaf:
+ * splitCopy, splitTransfer, append, addAll and concat are all O(log n).
+ * <p>
+ * get and set are O(log n). add and remove are O(log n) plus the cost of copying one leaf.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ */
+public class RopeList<T> implements ListADT<T>, Iterable<T> {
+
+    /**
+     * The most elements a leaf holds. Leaves are split when an insert would overflow them, and adjacent leaves are merged when a join finds they fit together.
+     */
+    static final int LEAF_CAPACITY = 64;
+
+    /**
+     * The root of the tree, or null if the list is empty.
+     */
+    private Node root;
+
+    /**
+     * Constructs an empty RopeList.
+     */
+    public RopeList() {
+        this.root = null;
+    }
+
+    /**
+     * Constructs a RopeList that is a copy of the given RopeList. Because tree nodes are immutable, the copy shares the whole tree and takes O(1).
+     * @param other the RopeList to be copied
+     */
+    public RopeList(RopeList<T> other) {
+        this.root = other.root;
+    }
+
+    /**
+     * Constructs a RopeList holding the given elements in order. The elements are packed into full leaves and a balanced tree is built over them in O(n).
+     * @param source the elements to copy
+     */
+    public RopeList(Iterable<? extends T> source) {
+        ArrayDeque<Node> leaves = new ArrayDeque<Node>();
+        Object[] chunk = new Object[LEAF_CAPACITY];
+        int count = 0;
+        for (T value : source) {
+            chunk[count++] = value;
+            if (count == LEAF_CAPACITY) {
+                leaves.add(new Leaf(chunk));
+                chunk = new Object[LEAF_CAPACITY];
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            leaves.add(new Leaf(Arrays.copyOf(chunk, count)));
+        }
+        this.root = buildBalanced(leaves.toArray(new Node[0]), 0, leaves.size());
+    }
+
+    /**
+     * Private constructor that wraps an existing tree.
+     * @param root the root of the tree, or null for an empty list
+     */
+    private RopeList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return sizeOf(this.root);
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        Node node = this.root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return (T) ((Leaf) node).items[index];
+    }
+
+    /**
+     * Sets the value at the given index. The path to the leaf is copied, so lists sharing the old tree are unaffected.
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        T prevValue = this.get(index);
+        this.root = setIn(this.root, index, value);
+        return prevValue;
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        checkSplitIndex(index);
+        this.root = (this.root == null) ? new Leaf(new Object[] { value }) : insert(this.root, index, value);
+    }
+
+    /**
+     * Adds element at end of list.
+     * @param value the element to be added to the ListADT object
+     */
+    public void add(T value) {
+        this.add(this.size(), value);
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        T returnValue = this.get(index);
+        this.root = delete(this.root, index);
+        return returnValue;
+    }
+
+    /**
+     * Returns a new RopeList containing the elements of this list followed by the elements of addList. Neither list is modified; the result shares both trees. O(log n).
+     * @param addList the list to be appended to this list
+     * @return a new RopeList containing the elements of this list followed by the elements of addList
+     */
+    public RopeList<T> append(RopeList<T> addList) {
+        return new RopeList<T>(join(this.root, addList.root));
+    }
+
+    /**
+     * Returns a new RopeList containing the elements of this list with the elements of addList inserted at the index. Neither list is modified. O(log n).
+     * @param index the index at which to insert the elements of addList
+     * @param addList the list to be inserted
+     * @return a new RopeList containing the combined elements
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public RopeList<T> addAll(int index, RopeList<T> addList) {
+        checkSplitIndex(index);
+        Node[] parts = split(this.root, index);
+        return new RopeList<T>(join(join(parts[0], addList.root), parts[1]));
+    }
+
+    /**
+     * Adds the elements of the given list to the end of this list in O(log n). The other list is not modified, since the two lists can share its tree.
+     * @param other the list whose elements are added to the end of this list
+     */
+    public void concat(RopeList<T> other) {
+        this.root = join(this.root, other.root);
+    }
+
+    /**
+     * Returns a new RopeList containing the elements of this list from the given index to the end. The original list is not modified. O(log n), because the new list shares subtrees with this one.
+     * @param index the index at which to split the list
+     * @return a new RopeList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public RopeList<T> splitCopy(int index) {
+        checkSplitIndex(index);
+        return new RopeList<T>(split(this.root, index)[1]);
+    }
+
+    /**
+     * Returns a new RopeList containing the elements of this list from the given index to the end, and shortens this list to the elements before the index. O(log n).
+     * @param index the index at which to split the list
+     * @return a new RopeList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public RopeList<T> splitTransfer(int index) {
+        checkSplitIndex(index);
+        Node[] parts = split(this.root, index);
+        this.root = parts[0];
+        return new RopeList<T>(parts[1]);
+    }
+
+    /**
+     * Converts the RopeList to a string.
+     * @return RopeList in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (T value : this) {
+            if (returnString.length() > 1) {
+                returnString.append(", ");
+            }
+            returnString.append(value);
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split or insertion point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * @param node a tree, or null
+     * @return the number of elements in the tree
+     */
+    private static int sizeOf(Node node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    /**
+     * @param node a tree, or null
+     * @return the height of the tree; a leaf has height 1 and an empty tree 0
+     */
+    private static int heightOf(Node node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    /**
+     * Builds a perfectly balanced tree over a run of leaves.
+     * @param leaves the leaves, in order
+     * @param from the first leaf to use
+     * @param to one past the last leaf to use
+     * @return the root of the tree, or null if the run is empty
+     */
+    private static Node buildBalanced(Node[] leaves, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        if (to - from == 1) {
+            return leaves[from];
+        }
+        int mid = (from + to) >>> 1;
+        return new Branch(buildBalanced(leaves, from, mid), buildBalanced(leaves, mid, to));
+    }
+
+    /**
+     * Concatenates two trees, keeping the result height-balanced. The cost is proportional to the difference in their heights.
+     * @param left the tree whose elements come first, or null
+     * @param right the tree whose elements come second, or null
+     * @return the joined tree, or null if both are empty
+     */
+    private static Node join(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= LEAF_CAPACITY) {
+            Object[] items = Arrays.copyOf(((Leaf) left).items, left.size + right.size);
+            System.arraycopy(((Leaf) right).items, 0, items, left.size, right.size);
+            return new Leaf(items);
+        }
+        if (left.height > right.height + 1) {
+            return joinRight((Branch) left, right);
+        }
+        if (right.height > left.height + 1) {
+            return joinLeft(left, (Branch) right);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Joins a shorter tree onto the right spine of a taller one, rotating on the way back up to restore balance.
+     * @param left the taller tree
+     * @param right the shorter tree
+     * @return the joined tree
+     */
+    private static Node joinRight(Branch left, Node right) {
+        Node outer = left.left;
+        Node inner = left.right;
+        if (inner.height <= right.height + 1) {
+            Node joined = join(inner, right);
+            if (joined.height <= outer.height + 1) {
+                return new Branch(outer, joined);
+            }
+            return rotateLeft(new Branch(outer, rotateRight((Branch) joined)));
+        }
+        Node joined = joinRight((Branch) inner, right);
+        Branch result = new Branch(outer, joined);
+        if (joined.height <= outer.height + 1) {
+            return result;
+        }
+        return rotateLeft(result);
+    }
+
+    /**
+     * Joins a shorter tree onto the left spine of a taller one, rotating on the way back up to restore balance.
+     * @param left the shorter tree
+     * @param right the taller tree
+     * @return the joined tree
+     */
+    private static Node joinLeft(Node left, Branch right) {
+        Node inner = right.left;
+        Node outer = right.right;
+        if (inner.height <= left.height + 1) {
+            Node joined = join(left, inner);
+            if (joined.height <= outer.height + 1) {
+                return new Branch(joined, outer);
+            }
+            return rotateRight(new Branch(rotateLeft((Branch) joined), outer));
+        }
+        Node joined = joinLeft(left, (Branch) inner);
+        Branch result = new Branch(joined, outer);
+        if (joined.height <= outer.height + 1) {
+            return result;
+        }
+        return rotateRight(result);
+    }
+
+    /**
+     * @param node a branch whose right child is a branch
+     * @return the same elements with the right child rotated up
+     */
+    private static Branch rotateLeft(Branch node) {
+        Branch right = (Branch) node.right;
+        return new Branch(new Branch(node.left, right.left), right.right);
+    }
+
+    /**
+     * @param node a branch whose left child is a branch
+     * @return the same elements with the left child rotated up
+     */
+    private static Branch rotateRight(Branch node) {
+        Branch left = (Branch) node.left;
+        return new Branch(left.left, new Branch(left.right, node.right));
+    }
+
+    /**
+     * Splits a tree into the elements before an index and the elements from it on, in O(log n). Only the leaf containing the index is copied.
+     * @param node the tree to split, or null
+     * @param index the split point, from 0 to the tree's size
+     * @return a two-element array holding the left and right trees, either of which may be null
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null) {
+            return new Node[] { null, null };
+        }
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            if (index == 0) {
+                return new Node[] { null, node };
+            }
+            if (index == items.length) {
+                return new Node[] { node, null };
+            }
+            return new Node[] { new Leaf(Arrays.copyOfRange(items, 0, index)),
+                    new Leaf(Arrays.copyOfRange(items, index, items.length)) };
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size;
+        if (index < leftSize) {
+            Node[] parts = split(branch.left, index);
+            return new Node[] { parts[0], join(parts[1], branch.right) };
+        }
+        if (index > leftSize) {
+            Node[] parts = split(branch.right, index - leftSize);
+            return new Node[] { join(branch.left, parts[0]), parts[1] };
+        }
+        return new Node[] { branch.left, branch.right };
+    }
+
+    /**
+     * Returns a copy of the tree with one element replaced, copying only the path to its leaf.
+     * @param node the tree
+     * @param index the index to replace
+     * @param value the new value
+     * @return the new tree
+     */
+    private static Node setIn(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items.clone();
+            items[index] = value;
+            return new Leaf(items);
+        }
+        Branch branch = (Branch) node;
+        if (index < branch.left.size) {
+            return new Branch(setIn(branch.left, index, value), branch.right);
+        }
+        return new Branch(branch.left, setIn(branch.right, index - branch.left.size, value));
+    }
+
+    /**
+     * Returns a copy of the tree with a value inserted, splitting the leaf in half if it is full.
+     * @param node the tree, not null
+     * @param index the insertion point
+     * @param value the value to insert
+     * @return the new tree
+     */
+    private static Node insert(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            Object[] grown = new Object[items.length + 1];
+            System.arraycopy(items, 0, grown, 0, index);
+            grown[index] = value;
+            System.arraycopy(items, index, grown, index + 1, items.length - index);
+            if (grown.length <= LEAF_CAPACITY) {
+                return new Leaf(grown);
+            }
+            int half = grown.length / 2;
+            return new Branch(new Leaf(Arrays.copyOfRange(grown, 0, half)),
+                    new Leaf(Arrays.copyOfRange(grown, half, grown.length)));
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.size) {
+            return join(insert(branch.left, index, value), branch.right);
+        }
+        return join(branch.left, insert(branch.right, index - branch.left.size, value));
+    }
+
+    /**
+     * Returns a copy of the tree with one element removed. A leaf that becomes empty disappears.
+     * @param node the tree, not null
+     * @param index the index to remove
+     * @return the new tree, or null if it is now empty
+     */
+    private static Node delete(Node node, int index) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            if (items.length == 1) {
+                return null;
+            }
+            Object[] shrunk = new Object[items.length - 1];
+            System.arraycopy(items, 0, shrunk, 0, index);
+            System.arraycopy(items, index + 1, shrunk, index, items.length - index - 1);
+            return new Leaf(shrunk);
+        }
+        Branch branch = (Branch) node;
+        if (index < branch.left.size) {
+            return join(delete(branch.left, index), branch.right);
+        }
+        return join(branch.left, delete(branch.right, index - branch.left.size));
+    }
+
+    /**
+     * Returns an iterator for the list. The iterator walks the leaves from left to right, keeping the unvisited right subtrees on a stack.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new RopeListIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the RopeList.
+     */
+    private class RopeListIterator implements Iterator<T> {
+        // Right subtrees still to visit, nearest on top.
+        private final ArrayDeque<Node> pending = new ArrayDeque<Node>();
+        // Leaf being walked, and the position of the next element in it.
+        private Object[] items;
+        private int offset;
+
+        /**
+         * Constructor for RopeListIterator. Descends to the leftmost leaf.
+         */
+        RopeListIterator() {
+            this.descend(RopeList.this.root);
+        }
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.items != null;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T data = (T) this.items[this.offset++];
+            if (this.offset == this.items.length) {
+                this.items = null;
+                this.descend(this.pending.poll());
+            }
+            return data;
+        }
+
+        /**
+         * Moves to the leftmost leaf of the given subtree, remembering the right subtrees passed on the way.
+         * @param node the subtree, or null if there is nothing left
+         */
+        private void descend(Node node) {
+            while (node instanceof Branch) {
+                this.pending.push(((Branch) node).right);
+                node = ((Branch) node).left;
+            }
+            if (node != null) {
+                this.items = ((Leaf) node).items;
+                this.offset = 0;
+            }
+        }
+    }
+
+    /**
+     * A node of the rope tree. Nodes are immutable, which is what lets lists share them.
+     */
+    private abstract static class Node {
+        /** Number of elements in this subtree */
+        final int size;
+        /** Height of this subtree; leaves have height 1 */
+        final int height;
+
+        Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    /**
+     * A leaf holding between 1 and LEAF_CAPACITY elements in an exactly-sized array.
+     */
+    private static final class Leaf extends Node {
+        final Object[] items;
+
+        Leaf(Object[] items) {
+            super(items.length, 1);
+            this.items = items;
+        }
+    }
+
+    /**
+     * An internal node with two non-empty children.
+     */
+    private static final class Branch extends Node {
+        final Node left;
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
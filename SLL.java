@@ -1,6 +1,15 @@
 import org.w3c.dom.Node;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Class to implement a singly linked list
@@ -16,25 +25,53 @@ class SLL<T> implements Iterable<T> {
      * The head of the list. If the list is empty, head is null.
      */
     public NodeSL<T> head; 
+    /**
+     * The tail of the list. If the list is empty, tail is null. Private because addLast, removeLast and the cursor cache rely on it; use getTail() to read it.
+     */
+    private NodeSL<T> tail;
     /**
      * The size of the list. If the list is empty, size is 0.
      */
     public int size; 
+    /**
+     * Index of the node getNode reached most recently, or -1 if there is none. getNode resumes from here instead of head when the target is at or after it, so a sequential loop of get/set calls is O(n) in total.
+     */
+    private int cursorIndex = -1;
+    /**
+     * The node at cursorIndex, or null if there is none.
+     */
+    private NodeSL<T> cursorNode;
+    /**
+     * The pool that removed nodes are returned to and inserted nodes are taken from, or null if nodes are not recycled.
+     */
+    private final NodePool<T> pool;
 
     /**
      * Constructor to create an empty list. Sets head to null and size to 0.
      */
     public SLL() {
+        this((NodePool<T>) null);
+    }
+
+    /**
+     * Constructor to create an empty list that recycles its nodes through the given pool. Every node the list removes is returned to the pool, and inserts reuse nodes from it, so a list that keeps inserting and removing stops allocating once the pool has filled. A removed node must not be used as a handle afterwards, since it may come back holding another element.
+     * @param pool the pool to recycle nodes through, or null to allocate every node
+     */
+    public SLL(NodePool<T> pool) {
         this.head = null;
+        this.tail = null;
         this.size = 0;
+        this.pool = pool;
     }
 
     /** Copy Constructor 
      * @param other the SLL to be copied
     */
     public SLL(SLL<T> other) { 
+        this.pool = null;
         if (other.head == null) {
             this.head = null;
+            this.tail = null;
             this.size = 0;
             return; 
         }
@@ -46,6 +83,7 @@ class SLL<T> implements Iterable<T> {
             currentNode = currentNode.getNext();
             otherNode = otherNode.getNext();
         }
+        this.tail = currentNode;
         this.size = other.size;
     }
 
@@ -75,8 +113,8 @@ class SLL<T> implements Iterable<T> {
      * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
      */
     public T set(int index, T value) {
-        T prevValue = this.get(index);
         NodeSL<T> node = this.getNode(index);
+        T prevValue = node.getData();
         node.setData(value);
         return prevValue; 
     }
@@ -98,7 +136,7 @@ class SLL<T> implements Iterable<T> {
             return;
         }
         NodeSL<T> prev = getNode(index - 1);
-        prev.setNext(new NodeSL<T>(value, prev.getNext()));
+        prev.setNext(this.newNode(value, prev.getNext()));
         this.size++;
     }
 
@@ -119,7 +157,11 @@ class SLL<T> implements Iterable<T> {
         NodeSL<T> target = prev.getNext();
         T data = target.getData();
         prev.setNext(target.getNext());
+        if (target == this.tail) {
+            this.tail = prev;
+        }
         size--;
+        this.release(target);
         return data;
     }
 
@@ -153,7 +195,7 @@ class SLL<T> implements Iterable<T> {
     }
 
     /**
-     * Helper method to get the node at a given index.
+     * Helper method to get the node at a given index. The walk starts from the cached cursor when the index is at or after it, and from head otherwise; the last index is answered from tail.
      * @param index the index to query
      * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
      * @return the node at the index specified
@@ -163,12 +205,53 @@ class SLL<T> implements Iterable<T> {
             throw new IndexOutOfBoundsException();
         }
         NodeSL<T> currentNode = this.head;
-        for (int i=0; i<index; i++) {
+        int i = 0;
+        if (index == this.size - 1) {
+            currentNode = this.tail;
+            i = index;
+        } else if (this.cursorNode != null && this.cursorIndex <= index) {
+            currentNode = this.cursorNode;
+            i = this.cursorIndex;
+        }
+        for (; i<index; i++) {
             currentNode = currentNode.getNext();
         }
+        this.cursorIndex = index;
+        this.cursorNode = currentNode;
         return currentNode;
     }
 
+    /**
+     * Helper method that forgets the cached cursor, used when a mutation may have moved the cursor node to a different index or out of the list.
+     */
+    private void invalidateCursor() {
+        this.cursorIndex = -1;
+        this.cursorNode = null;
+    }
+
+    /**
+     * Helper method that makes a node for an insert, taking it from the pool if there is one.
+     * @param value the data for the node
+     * @param next the next link for the node
+     * @return the new node
+     */
+    private NodeSL<T> newNode(T value, NodeSL<T> next) {
+        if (this.pool == null) {
+            return new NodeSL<T>(value, next);
+        }
+        return this.pool.obtain(value, next);
+    }
+
+    /**
+     * Helper method that hands a node the list has just unlinked back to the pool, if there is one.
+     * @param node the node that was removed
+     */
+    private void release(NodeSL<T> node) {
+        if (this.pool != null) {
+            this.pool.recycle(node);
+        }
+    }
+
     /**
      * Gets the head (first element) of the list.
      * @return the head node of the list
@@ -178,18 +261,11 @@ class SLL<T> implements Iterable<T> {
     }
 
     /**
-     * Gets the tail (last element) of the list.
+     * Gets the tail (last element) of the list. The tail reference is maintained by every mutator, so this is O(1).
      * @return the tail node of the list
      */
     public NodeSL<T> getTail() {
-        if (this.head == null) { 
-            return null; 
-        }
-        NodeSL<T> currentNode = this.head;
-        while (currentNode.getNext() != null) {
-            currentNode = currentNode.getNext();
-        }
-        return currentNode;
+        return this.tail;
     }
 
     /**
@@ -197,8 +273,14 @@ class SLL<T> implements Iterable<T> {
      * @param value the element to be added to the front of the ListADT object
      */
     public void addFirst(T value) {
-        NodeSL<T> newHead = new NodeSL<T>(value, this.head); 
+        NodeSL<T> newHead = this.newNode(value, this.head); 
         this.head = newHead;
+        if (this.tail == null) {
+            this.tail = newHead;
+        }
+        if (this.cursorNode != null) {
+            this.cursorIndex++;
+        }
         this.size++;
     }
 
@@ -207,13 +289,13 @@ class SLL<T> implements Iterable<T> {
      * @param value the element to be added to the end of the ListADT object
      */
     public void addLast(T value) { 
-        NodeSL<T> newTail = new NodeSL<T>(value, null);
+        NodeSL<T> newTail = this.newNode(value, null);
         if (this.head == null) {
             this.head = newTail;
         } else {
-            NodeSL<T> tail = this.getTail();
-            tail.setNext(newTail);
+            this.tail.setNext(newTail);
         }
+        this.tail = newTail;
         this.size++;
     }
 
@@ -225,9 +307,19 @@ class SLL<T> implements Iterable<T> {
         if (this.head == null) { 
             throw new IllegalStateException();
         }
-        T data = this.head.getData();
-        this.head = this.head.getNext();
+        NodeSL<T> oldHead = this.head;
+        T data = oldHead.getData();
+        this.head = oldHead.getNext();
+        if (this.head == null) {
+            this.tail = null;
+        }
+        if (this.cursorIndex == 0) {
+            this.invalidateCursor();
+        } else if (this.cursorNode != null) {
+            this.cursorIndex--;
+        }
         this.size--;
+        this.release(oldHead);
         return data;
     }
 
@@ -239,15 +331,22 @@ class SLL<T> implements Iterable<T> {
         if (this.head == null) { 
             throw new IllegalStateException();
         } else if (this.size == 1) {
-            T data = this.head.getData();
+            NodeSL<T> oldHead = this.head;
+            T data = oldHead.getData();
             this.head = null;
+            this.tail = null;
+            this.invalidateCursor();
             this.size--;
+            this.release(oldHead);
             return data;
         }
         NodeSL<T> newTail = this.getNode(this.size-2);
-        T data = newTail.getNext().getData();
+        NodeSL<T> oldTail = newTail.getNext();
+        T data = oldTail.getData();
         newTail.setNext(null);
+        this.tail = newTail;
         this.size--;
+        this.release(oldTail);
         return data;
     }
 
@@ -258,7 +357,8 @@ class SLL<T> implements Iterable<T> {
      */
     public void addAfter(NodeSL<T> node, T value) { 
         if (head == null) {
-        head = new NodeSL<>(value, null);
+        head = this.newNode(value, null);
+        tail = head;
         size = 1;
         return; 
         }
@@ -268,8 +368,14 @@ class SLL<T> implements Iterable<T> {
             return; 
         }
         NodeSL<T> nextNode = node.getNext();
-        NodeSL<T> newNode = new NodeSL<T>(value, nextNode);
+        NodeSL<T> newNode = this.newNode(value, nextNode);
         node.setNext(newNode);
+        if (node != this.cursorNode) {
+            this.invalidateCursor();
+        }
+        if (node == this.tail) {
+            this.tail = newNode;
+        }
         this.size++;
     }
 
@@ -293,8 +399,16 @@ class SLL<T> implements Iterable<T> {
             throw new IllegalStateException();
         }
         node.setNext(target.getNext());
+        if (target == this.tail) {
+            this.tail = node;
+        }
+        if (node != this.cursorNode) {
+            this.invalidateCursor();
+        }
         size--;
-        return target.getData();
+        T data = target.getData();
+        this.release(target);
+        return data;
     }
 
     /**
@@ -321,6 +435,7 @@ class SLL<T> implements Iterable<T> {
             newTail = newNode;
             current = current.getNext();
         }
+        newList.tail = newTail;
         newList.size = this.size - index;
         return newList; 
     }
@@ -337,9 +452,9 @@ class SLL<T> implements Iterable<T> {
         SLL<T> newList = new SLL<T>();
         if (index == 0) {
             newList.head = this.head;
+            newList.tail = this.tail;
             newList.size = this.size;
-            this.head = null;
-            this.size = 0;
+            this.clearLinks();
             return newList;
         }
         if (index == this.size) {
@@ -347,12 +462,274 @@ class SLL<T> implements Iterable<T> {
         }
         NodeSL<T> prev = getNode(index - 1);
         newList.head = prev.getNext();
+        newList.tail = this.tail;
         newList.size = this.size - index;
         prev.setNext(null);
+        this.tail = prev;
         this.size = index;
         return newList;
     }
 
+    /**
+     * Moves every node of the given list onto the end of this list. No nodes are copied; the chains are relinked in O(1). The other list is left empty.
+     * @param other the list whose nodes are moved to the end of this list
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(SLL<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other.head == null) {
+            return;
+        }
+        if (this.head == null) {
+            this.head = other.head;
+        } else {
+            this.tail.setNext(other.head);
+        }
+        this.tail = other.tail;
+        this.size += other.size;
+        other.clearLinks();
+    }
+
+    /**
+     * Moves every node of the given list into this list directly after the given node. No nodes are copied; the chains are relinked in O(1). The other list is left empty.
+     * If node is null, the other list's nodes are placed at the head.
+     * @param node the node after which the other list's nodes are placed
+     * @param other the list whose nodes are moved into this list
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void spliceAfter(NodeSL<T> node, SLL<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other.head == null) {
+            return;
+        }
+        if (node == null) {
+            other.tail.setNext(this.head);
+            this.head = other.head;
+            if (this.tail == null) {
+                this.tail = other.tail;
+            }
+            if (this.cursorNode != null) {
+                this.cursorIndex += other.size;
+            }
+        } else {
+            other.tail.setNext(node.getNext());
+            node.setNext(other.head);
+            if (node == this.tail) {
+                this.tail = other.tail;
+            } else if (node != this.cursorNode) {
+                this.invalidateCursor();
+            }
+        }
+        this.size += other.size;
+        other.clearLinks();
+    }
+
+    /**
+     * Removes every element that matches the filter, in one pass. The walk keeps a pointer to the last kept node and links it straight to the next kept one, so the whole call is O(n) however many elements are removed. The filter is called once per element, in order.
+     * If the filter throws, the elements it has already matched are removed and the rest are kept.
+     * @param filter returns true for elements to remove
+     * @return true if any elements were removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        NodeSL<T> prev = null;
+        NodeSL<T> node = this.head;
+        int removed = 0;
+        try {
+            while (node != null) {
+                NodeSL<T> next = node.getNext();
+                if (filter.test(node.getData())) {
+                    if (prev == null) {
+                        this.head = next;
+                    } else {
+                        prev.setNext(next);
+                    }
+                    this.release(node);
+                    removed++;
+                } else {
+                    prev = node;
+                }
+                node = next;
+            }
+        } finally {
+            if (removed > 0) {
+                if (node == null) {
+                    this.tail = prev;
+                }
+                this.size -= removed;
+                this.invalidateCursor();
+            }
+        }
+        return removed > 0;
+    }
+
+    /**
+     * Removes every element that is in the given collection, in one pass. Takes O(n) calls to the collection's contains method.
+     * @param c the elements to remove
+     * @return true if any elements were removed
+     */
+    public boolean removeAll(Collection<?> c) {
+        return this.removeIf(element -> c.contains(element));
+    }
+
+    /**
+     * Removes every element that is not in the given collection, in one pass. Takes O(n) calls to the collection's contains method.
+     * @param c the elements to keep
+     * @return true if any elements were removed
+     */
+    public boolean retainAll(Collection<?> c) {
+        return this.removeIf(element -> !c.contains(element));
+    }
+
+    /**
+     * Replaces each element with the result of applying the operator to it, in order.
+     * @param operator the function to apply to each element
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        for (NodeSL<T> node = this.head; node != null; node = node.getNext()) {
+            node.setData(operator.apply(node.getData()));
+        }
+    }
+
+    /**
+     * Sorts the list in place with an iterative bottom-up natural merge sort. The existing nodes are relinked, never copied or allocated; apart from them the sort only uses a fixed table of 32 run heads, so it takes O(1) extra space and O(n log n) time. The sort is stable.
+     * The list is cut into the runs that are already in order. Runs are merged like carries in a binary counter: slot i of the table holds a sorted run made from 2^i runs, and each new run is merged with the slots it carries into. Merges of small runs therefore happen while their nodes are still in cache, instead of in passes over the whole list. Sorted input is a single run and takes one O(n) walk.
+     * If the comparator throws, the list keeps all its elements, partly sorted.
+     * @param c the comparator that orders the elements, or null to use their natural ordering
+     * @throws ClassCastException if c is null and the elements are not mutually Comparable
+     */
+    public void sort(Comparator<? super T> c) {
+        if (this.size < 2) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<? super T> order = c != null ? c : (Comparator<? super T>) Comparator.naturalOrder();
+        @SuppressWarnings("unchecked")
+        NodeSL<T>[] runs = (NodeSL<T>[]) new NodeSL<?>[32];
+        @SuppressWarnings("unchecked")
+        NodeSL<T>[] runTails = (NodeSL<T>[]) new NodeSL<?>[32];
+        this.invalidateCursor();
+        // The nodes not yet cut into runs, still linked as they were.
+        NodeSL<T> rest = this.head;
+        this.head = null;
+        this.tail = null;
+        try {
+            while (rest != null) {
+                NodeSL<T> runTail = rest;
+                while (runTail.getNext() != null && order.compare(runTail.getData(), runTail.getNext().getData()) <= 0) {
+                    runTail = runTail.getNext();
+                }
+                NodeSL<T> run = rest;
+                rest = runTail.getNext();
+                runTail.setNext(null);
+                int level = 0;
+                for (; runs[level] != null; level++) {
+                    NodeSL<T> earlier = runs[level];
+                    runs[level] = null;
+                    this.mergeRuns(earlier, run, order);
+                    run = this.head;
+                    runTail = this.tail;
+                    this.head = null;
+                    this.tail = null;
+                }
+                runs[level] = run;
+                runTails[level] = runTail;
+            }
+            // Higher slots hold earlier elements, so each slot is merged in front of everything below it.
+            NodeSL<T> sorted = null;
+            NodeSL<T> sortedTail = null;
+            for (int level = 0; level < runs.length; level++) {
+                if (runs[level] == null) {
+                    continue;
+                }
+                NodeSL<T> earlier = runs[level];
+                runs[level] = null;
+                if (sorted == null) {
+                    sorted = earlier;
+                    sortedTail = runTails[level];
+                } else {
+                    this.mergeRuns(earlier, sorted, order);
+                    sorted = this.head;
+                    sortedTail = this.tail;
+                    this.head = null;
+                    this.tail = null;
+                }
+            }
+            this.head = sorted;
+            this.tail = sortedTail;
+        } catch (RuntimeException e) {
+            // mergeRuns has already put the merge in progress back together; gather everything else after it.
+            for (NodeSL<T> run : runs) {
+                this.appendChain(run);
+            }
+            this.appendChain(rest);
+            throw e;
+        }
+    }
+
+    /**
+     * Helper method for sort that merges two sorted, null-terminated chains onto the end of the list being rebuilt, taking from a first on ties. If the comparator throws, whatever is left of both chains is still linked on before the exception propagates.
+     * @param a the chain of earlier elements
+     * @param b the chain of later elements
+     * @param order the comparator that orders the elements
+     */
+    private void mergeRuns(NodeSL<T> a, NodeSL<T> b, Comparator<? super T> order) {
+        try {
+            while (a != null && b != null) {
+                if (order.compare(a.getData(), b.getData()) <= 0) {
+                    this.appendNode(a);
+                    a = a.getNext();
+                } else {
+                    this.appendNode(b);
+                    b = b.getNext();
+                }
+            }
+        } finally {
+            this.appendChain(a);
+            this.appendChain(b);
+        }
+    }
+
+    /**
+     * Helper method for sort that links a node onto the end of the list being rebuilt.
+     * @param node the node to link on
+     */
+    private void appendNode(NodeSL<T> node) {
+        if (this.tail == null) {
+            this.head = node;
+        } else {
+            this.tail.setNext(node);
+        }
+        this.tail = node;
+    }
+
+    /**
+     * Helper method for sort that links a whole null-terminated chain onto the end of the list being rebuilt, walking it to find its last node.
+     * @param chain the first node of the chain, or null for none
+     */
+    private void appendChain(NodeSL<T> chain) {
+        if (chain == null) {
+            return;
+        }
+        this.appendNode(chain);
+        while (this.tail.getNext() != null) {
+            this.tail = this.tail.getNext();
+        }
+    }
+
+    /**
+     * Helper method that empties this list without touching the nodes, used after its chain has been moved into another list.
+     */
+    private void clearLinks() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.invalidateCursor();
+    }
+
     /**
      * Returns an iterator for the list. The iterator should iterate through the elements of the list in order from head to tail.
      * @return an iterator for the list
@@ -360,6 +737,112 @@ class SLL<T> implements Iterable<T> {
     public Iterator<T> iterator() {
     return new SLLIterator();
     }
+
+    /**
+     * Performs the action on each element in order, walking the nodes directly instead of going through an iterator.
+     * @param action the action to perform on each element
+     */
+    public void forEach(Consumer<? super T> action) {
+        for (NodeSL<T> node = this.head; node != null; node = node.getNext()) {
+            action.accept(node.getData());
+        }
+    }
+
+    /**
+     * Returns a spliterator over the elements of the list. It is SIZED and ORDERED. A linked list cannot be split in the middle
+     * without walking to it, so each split hands off the next batch of elements as an array, with batches growing in size.
+     * @return a spliterator over the elements of the list
+     */
+    public Spliterator<T> spliterator() {
+        return new SLLSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     * @return a stream over the elements of the list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the list.
+     * @return a possibly parallel stream over the elements of the list
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Private inner class to implement the spliterator for the SLL. It walks the nodes from the head, and trySplit copies the next
+     * batch of elements into an array spliterator, which splits evenly from then on.
+     */
+    private class SLLSpliterator implements Spliterator<T> {
+        /**
+         * Batch sizes grow by this much per split, so small lists still split and large lists split into large batches.
+         */
+        private static final int BATCH_UNIT = 1 << 10;
+        /**
+         * Batches never exceed this many elements.
+         */
+        private static final int MAX_BATCH = 1 << 25;
+
+        private NodeSL<T> current;
+        private int remaining;
+        private int batch;
+
+        /**
+         * Constructor for SLLSpliterator. Covers the whole list as it is when the spliterator is created.
+         */
+        SLLSpliterator() {
+            this.current = SLL.this.head;
+            this.remaining = SLL.this.size;
+        }
+
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] items = new Object[n];
+            for (int i = 0; i < n; i++) {
+                items[i] = this.current.getData();
+                this.current = this.current.getNext();
+            }
+            this.batch = n;
+            this.remaining -= n;
+            return Spliterators.spliterator(items, 0, n, Spliterator.ORDERED);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.remaining == 0) {
+                return false;
+            }
+            T data = this.current.getData();
+            this.current = this.current.getNext();
+            this.remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            NodeSL<T> node = this.current;
+            for (int i = this.remaining; i > 0 && node != null; i--) {
+                action.accept(node.getData());
+                node = node.getNext();
+            }
+            this.current = node;
+            this.remaining = 0;
+        }
+
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED;
+        }
+    }
     
     /**
      * Private inner class to implement the iterator for the SLL. The iterator should iterate through the elements of the list in order from head to tail.
@@ -367,6 +850,10 @@ class SLL<T> implements Iterable<T> {
     private class SLLIterator implements Iterator<T> {
         //Current node that the iterator is at. 
         private NodeSL<T> current;
+        //Node next() returned last, or null if remove() has been called since.
+        private NodeSL<T> lastReturned;
+        //Node before lastReturned, or null if lastReturned is the head.
+        private NodeSL<T> prev;
 
         /**
          * Constructor for SLLIterator. Initializes current to head of the list.
@@ -389,6 +876,10 @@ class SLL<T> implements Iterable<T> {
          */
         public T next() {
             if (this.hasNext()) {
+                if (this.lastReturned != null) {
+                    this.prev = this.lastReturned;
+                }
+                this.lastReturned = this.current;
                 T data = this.current.getData();
                 this.current = this.current.getNext();
                 return data;
@@ -396,6 +887,28 @@ class SLL<T> implements Iterable<T> {
                 throw new NoSuchElementException();
             }
         }
+
+        /**
+         * Removes the element next() returned last, in O(1): the iterator remembers the node before it and links that straight to the node after it.
+         * @throws IllegalStateException if next() has not been called, or remove() has already been called since
+         */
+        public void remove() {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (this.prev == null) {
+                SLL.this.head = this.current;
+            } else {
+                this.prev.setNext(this.current);
+            }
+            if (this.lastReturned == SLL.this.tail) {
+                SLL.this.tail = this.prev;
+            }
+            SLL.this.size--;
+            SLL.this.invalidateCursor();
+            SLL.this.release(this.lastReturned);
+            this.lastReturned = null;
+        }
     }
 
 }
\ No newline at end of file
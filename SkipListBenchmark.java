@@ -0,0 +1,145 @@
+import java.util.Random;
+
+/**
+ * Scaling benchmark for random-index operations on SLL vs IndexedSkipList.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java SkipListBenchmark
+ */
+public class SkipListBenchmark {
+    private static final int[] SIZES = { 1000, 10000, 100000 };
+    private static final int REPS = 500;
+    private static final int WARMUP = 200;
+
+    // Note: timings under 100 ns are noisy; focus on trends, not absolute values.
+    public static void main(String[] args) {
+        System.out.println("Random-index access: SLL vs IndexedSkipList");
+        System.out.println("Each timing is an average over " + REPS + " ops at random indexes.\n");
+
+        for (int n : SIZES) {
+            SLL<Integer> sll = new SLL<>();
+            IndexedSkipList<Integer> skip = new IndexedSkipList<>();
+            for (int i = 0; i < n; i++) {
+                sll.addLast(i);
+                skip.addLast(i);
+            }
+            int[] indexes = randomIndexes(n, REPS);
+
+            timeGet(sll, indexes, WARMUP);
+            timeGet(skip, indexes, WARMUP);
+            timeAddRemove(sll, indexes, WARMUP);
+            timeAddRemove(skip, indexes, WARMUP);
+
+            System.out.println("n = " + n);
+            System.out.println("  get(random):        SLL " + timeGet(sll, indexes, REPS) + " ns/op, IndexedSkipList " + timeGet(skip, indexes, REPS) + " ns/op");
+            System.out.println("  set(random):        SLL " + timeSet(sll, indexes, REPS) + " ns/op, IndexedSkipList " + timeSet(skip, indexes, REPS) + " ns/op");
+            System.out.println("  add+remove(random): SLL " + timeAddRemove(sll, indexes, REPS) + " ns/op, IndexedSkipList " + timeAddRemove(skip, indexes, REPS) + " ns/op");
+            System.out.println("  splitTransfer(mid): SLL " + timeSplitTransfer(sll) + " ns/op, IndexedSkipList " + timeSplitTransfer(skip) + " ns/op");
+            System.out.println();
+        }
+    }
+
+    private static int[] randomIndexes(int n, int count) {
+        Random random = new Random(42);
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = random.nextInt(n);
+        }
+        return indexes;
+    }
+
+    private static long timeGet(ListADT<Integer> list, int[] indexes, int reps) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            sink += list.get(indexes[i % indexes.length]);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / reps;
+    }
+
+    private static long timeGet(SLL<Integer> list, int[] indexes, int reps) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            sink += list.get(indexes[i % indexes.length]);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / reps;
+    }
+
+    private static long timeSet(ListADT<Integer> list, int[] indexes, int reps) {
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            int index = indexes[i % indexes.length];
+            list.set(index, index);
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / reps;
+    }
+
+    private static long timeSet(SLL<Integer> list, int[] indexes, int reps) {
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            int index = indexes[i % indexes.length];
+            list.set(index, index);
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / reps;
+    }
+
+    private static long timeAddRemove(ListADT<Integer> list, int[] indexes, int reps) {
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            int index = indexes[i % indexes.length];
+            list.add(index, -1);
+            list.remove(index);
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / reps;
+    }
+
+    private static long timeAddRemove(SLL<Integer> list, int[] indexes, int reps) {
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            int index = indexes[i % indexes.length];
+            list.add(index, -1);
+            list.remove(index);
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / reps;
+    }
+
+    // Split at the middle and join back so every rep starts from the same list.
+    private static long timeSplitTransfer(SLL<Integer> list) {
+        int index = list.size() / 2;
+        long start = System.nanoTime();
+        for (int i = 0; i < REPS; i++) {
+            list.concat(list.splitTransfer(index));
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / REPS;
+    }
+
+    // Split at the middle and move the suffix back with addLast so every rep starts from the same list;
+    // only the split itself is timed.
+    private static long timeSplitTransfer(IndexedSkipList<Integer> list) {
+        int index = list.size() / 2;
+        long elapsed = 0;
+        for (int i = 0; i < REPS; i++) {
+            long start = System.nanoTime();
+            IndexedSkipList<Integer> suffix = list.splitTransfer(index);
+            elapsed += System.nanoTime() - start;
+            for (int value : suffix) {
+                list.addLast(value);
+            }
+        }
+        return elapsed / REPS;
+    }
+}
@@ -0,0 +1,526 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Class to implement a singly linked list whose nodes are slots in two parallel arrays instead of NodeSL objects: data[s]
+ * holds the element in slot s and next[s] holds the slot of the node after it. Links are int indices, so a node costs one
+ * array entry in each array rather than an object with a header and two references, and walking the list reads two arrays
+ * instead of chasing pointers around the heap.
+ * <p>
+ * Node handles are slot numbers. getHead(), getTail() and getNext() return them, and addAfter and removeAfter take them in
+ * place of NodeSL references; NIL stands for "no node", like null does for SLL. These methods mirror NodeBasedOps, but the
+ * class does not implement it: NodeBasedOps works on ListNode objects, and a handle here is a plain int.
+ * <p>
+ * Removed slots go on a free list and are reused by later inserts, so a handle is only valid until its node is removed.
+ * Handles are unchecked once their slot is reused: a handle to a removed node throws IllegalStateException only while its
+ * slot is still free, and the free list hands out the most recently freed slot first, so the very next insert can reuse
+ * it. From then on the stale handle silently refers to the new node.
+ * <p>
+ * After many inserts and removals in the middle, traversal order no longer matches slot order. compact() renumbers the
+ * slots into traversal order so that walking the list reads both arrays front to back again.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ * @version Spring 2026
+ */
+public class SlotLinkedList<T> implements ListADT<T>, Iterable<T> {
+
+    /**
+     * The handle that stands for no node: the next link of the last node, and the head and tail of an empty list.
+     */
+    public static final int NIL = -1;
+    /**
+     * Base for the link stored in a free slot: a free slot whose next free slot is f stores FREE_BASE - f, and one at the end
+     * of the free list stores FREE_BASE - NIL.
+     */
+    private static final int FREE_BASE = -3;
+
+    /**
+     * The element in each slot. Free slots hold null.
+     */
+    private Object[] data;
+    /**
+     * The slot after each slot, or NIL for the tail. A free slot holds FREE_BASE minus the next free slot instead, so every
+     * free slot has a link below NIL and can be told apart from a slot in the list.
+     */
+    private int[] next;
+    /**
+     * The first slot of the list, or NIL if the list is empty.
+     */
+    private int head;
+    /**
+     * The last slot of the list, or NIL if the list is empty.
+     */
+    private int tail;
+    /**
+     * The number of elements in the list.
+     */
+    private int size;
+    /**
+     * The first free slot below slotCount, or NIL if there is none.
+     */
+    private int free;
+    /**
+     * The number of slots that have ever been handed out. Slots at or above this have never been used.
+     */
+    private int slotCount;
+    /**
+     * Counts changes to the links, so iterators can detect them.
+     */
+    private int modCount;
+
+    /**
+     * Constructor to create an empty list with room for 10 elements.
+     */
+    public SlotLinkedList() {
+        this(10);
+    }
+
+    /**
+     * Constructor to create an empty list with room for the given number of elements before its arrays grow.
+     * @param capacity the initial number of slots
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public SlotLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.data = new Object[capacity];
+        this.next = new int[capacity];
+        this.head = NIL;
+        this.tail = NIL;
+        this.free = NIL;
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        return this.getData(this.getSlot(index));
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        int slot = this.getSlot(index);
+        T prevValue = this.getData(slot);
+        this.data[slot] = value;
+        return prevValue;
+    }
+
+    /**
+     * Adds element to existing list.
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == 0) {
+            this.addFirst(value);
+        } else if (index == this.size) {
+            this.addLast(value);
+        } else {
+            this.addAfter(this.getSlot(index - 1), value);
+        }
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == 0) {
+            return this.removeFirst();
+        }
+        return this.removeAfter(this.getSlot(index - 1));
+    }
+
+    /**
+     * Helper method to get the slot at a given index. The last index is answered from tail; any other index walks from head.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the slot at the index specified
+     */
+    public int getSlot(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == this.size - 1) {
+            return this.tail;
+        }
+        int slot = this.head;
+        for (int i = 0; i < index; i++) {
+            slot = this.next[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Accessor for head node
+     * @return the slot of the head node, or NIL if the list is empty
+     */
+    public int getHead() {
+        return this.head;
+    }
+
+    /**
+     * Accessor for tail node
+     * @return the slot of the tail node, or NIL if the list is empty
+     */
+    public int getTail() {
+        return this.tail;
+    }
+
+    /**
+     * Accessor for the node after a given node
+     * @param slot the slot of a node in the list
+     * @return the slot of the next node, or NIL if slot is the tail
+     * @throws IllegalArgumentException if slot is not a slot of this list
+     * @throws IllegalStateException if the node in slot has been removed and the slot has not been reused
+     */
+    public int getNext(int slot) {
+        this.checkSlot(slot);
+        return this.next[slot];
+    }
+
+    /**
+     * Accessor for the element in a given node
+     * @param slot the slot of a node in the list
+     * @return the element in that node
+     * @throws IllegalArgumentException if slot is not a slot of this list
+     * @throws IllegalStateException if the node in slot has been removed and the slot has not been reused
+     */
+    @SuppressWarnings("unchecked")
+    public T getData(int slot) {
+        this.checkSlot(slot);
+        return (T) this.data[slot];
+    }
+
+    /**
+     * Changes the element in a given node
+     * @param slot the slot of a node in the list
+     * @param value the new element
+     * @throws IllegalArgumentException if slot is not a slot of this list
+     * @throws IllegalStateException if the node in slot has been removed and the slot has not been reused
+     */
+    public void setData(int slot, T value) {
+        this.checkSlot(slot);
+        this.data[slot] = value;
+    }
+
+    /**
+     * Inserts the given item at the head of the list
+     * @param v item to insert
+     */
+    public void addFirst(T v) {
+        int slot = this.allocate(v, this.head);
+        this.head = slot;
+        if (this.tail == NIL) {
+            this.tail = slot;
+        }
+        this.size++;
+    }
+
+    /**
+     * Inserts the given item at the tail of the list
+     * @param v item to insert
+     */
+    public void addLast(T v) {
+        int slot = this.allocate(v, NIL);
+        if (this.tail == NIL) {
+            this.head = slot;
+        } else {
+            this.next[this.tail] = slot;
+        }
+        this.tail = slot;
+        this.size++;
+    }
+
+    /**
+     * Removes the given item from the head of the list
+     * @return v item removed
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeFirst() {
+        if (this.head == NIL) {
+            throw new IllegalStateException();
+        }
+        int slot = this.head;
+        this.head = this.next[slot];
+        if (this.head == NIL) {
+            this.tail = NIL;
+        }
+        this.size--;
+        return this.release(slot);
+    }
+
+    /**
+     * Removes the given item from the tail of the list. The list only links forward, so this walks to the node before the
+     * tail and takes O(n) time.
+     * @return item removed
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeLast() {
+        if (this.head == NIL) {
+            throw new IllegalStateException();
+        }
+        if (this.size == 1) {
+            return this.removeFirst();
+        }
+        return this.removeAfter(this.getSlot(this.size - 2));
+    }
+
+    /**
+     * Inserts the given item after the specified node.
+     * If here is NIL, insert at the head.
+     * @param here slot of the node to insert after
+     * @param v item to insert
+     * @throws IllegalArgumentException if here is not NIL or a slot of this list
+     * @throws IllegalStateException if the node in here has been removed and the slot has not been reused
+     */
+    public void addAfter(int here, T v) {
+        if (here == NIL) {
+            this.addFirst(v);
+            return;
+        }
+        this.checkSlot(here);
+        int slot = this.allocate(v, this.next[here]);
+        this.next[here] = slot;
+        if (here == this.tail) {
+            this.tail = slot;
+        }
+        this.size++;
+    }
+
+    /**
+     * Removes the node after the given position.
+     * If here is NIL, remove the head node.
+     * @param here slot of the node to remove after
+     * @return item removed
+     * @throws IllegalArgumentException if here is not NIL or a slot of this list
+     * @throws IllegalStateException if the list is empty, here has no node after it, or the node in here has been removed and the slot has not been reused
+     */
+    public T removeAfter(int here) {
+        if (here == NIL) {
+            return this.removeFirst();
+        }
+        this.checkSlot(here);
+        int target = this.next[here];
+        if (target == NIL) {
+            throw new IllegalStateException();
+        }
+        this.next[here] = this.next[target];
+        if (target == this.tail) {
+            this.tail = here;
+        }
+        this.size--;
+        return this.release(target);
+    }
+
+    /**
+     * Renumbers the slots so that the list occupies slots 0 to size-1 in traversal order, and shrinks the arrays to fit.
+     * Afterwards walking the list reads both arrays front to back. Every handle held before the call is invalid afterwards:
+     * the node at index i is in slot i.
+     */
+    public void compact() {
+        Object[] newData = new Object[this.size];
+        int[] newNext = new int[this.size];
+        int slot = this.head;
+        for (int i = 0; i < this.size; i++) {
+            newData[i] = this.data[slot];
+            newNext[i] = i + 1;
+            slot = this.next[slot];
+        }
+        if (this.size > 0) {
+            newNext[this.size - 1] = NIL;
+        }
+        this.data = newData;
+        this.next = newNext;
+        this.head = this.size > 0 ? 0 : NIL;
+        this.tail = this.size - 1;
+        this.free = NIL;
+        this.slotCount = this.size;
+        this.modCount++;
+    }
+
+    /**
+     * Queries the number of slots the arrays can hold before they grow, including slots in use and free slots.
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return this.data.length;
+    }
+
+    /**
+     * Converts the list to a string.
+     * @return list in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (int slot = this.head; slot != NIL; slot = this.next[slot]) {
+            returnString.append(this.data[slot]);
+            if (slot != this.tail) {
+                returnString.append(", ");
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Performs the action on each element in order, walking the slot arrays directly instead of going through an iterator.
+     * @param action the action to perform on each element
+     * @throws ConcurrentModificationException if the action inserts or removes elements
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = this.modCount;
+        for (int slot = this.head; slot != NIL; slot = this.next[slot]) {
+            action.accept((T) this.data[slot]);
+            if (this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator for the list. The iterator iterates through the elements of the list in order from head to tail.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new SlotIterator();
+    }
+
+    /**
+     * Helper method that puts an element in a free slot, reusing a removed slot if there is one and growing the arrays if
+     * every slot is in use.
+     * @param value the element to store
+     * @param link the slot the new node links to
+     * @return the slot used
+     */
+    private int allocate(T value, int link) {
+        int slot;
+        if (this.free != NIL) {
+            slot = this.free;
+            this.free = FREE_BASE - this.next[slot];
+        } else {
+            if (this.slotCount == this.data.length) {
+                int capacity = this.slotCount*2+1;
+                this.data = Arrays.copyOf(this.data, capacity);
+                this.next = Arrays.copyOf(this.next, capacity);
+            }
+            slot = this.slotCount++;
+        }
+        this.data[slot] = value;
+        this.next[slot] = link;
+        this.modCount++;
+        return slot;
+    }
+
+    /**
+     * Helper method that puts a slot that has just been unlinked on the free list.
+     * @param slot the slot that was removed
+     * @return the element that was in it
+     */
+    @SuppressWarnings("unchecked")
+    private T release(int slot) {
+        T value = (T) this.data[slot];
+        this.data[slot] = null;
+        this.next[slot] = FREE_BASE - this.free;
+        this.free = slot;
+        this.modCount++;
+        return value;
+    }
+
+    /**
+     * Checks that the given slot holds a node of the list.
+     * @param slot the slot to check
+     * @throws IllegalArgumentException if slot is not a slot of this list
+     * @throws IllegalStateException if the node in slot has been removed and the slot has not been reused
+     */
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= this.slotCount) {
+            throw new IllegalArgumentException("not a slot of this list: " + slot);
+        }
+        if (this.next[slot] < NIL) {
+            throw new IllegalStateException("node has been removed");
+        }
+    }
+
+    /**
+     * Private inner class to implement the iterator for the SlotLinkedList.
+     */
+    private class SlotIterator implements Iterator<T> {
+        private int current;
+        private final int expectedModCount;
+
+        /**
+         * Constructor for SlotIterator. Starts at the head of the list.
+         */
+        SlotIterator() {
+            this.current = SlotLinkedList.this.head;
+            this.expectedModCount = SlotLinkedList.this.modCount;
+        }
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.current != NIL;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         * @throws ConcurrentModificationException if the list has had elements inserted or removed since the iterator was created
+         */
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (SlotLinkedList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.current == NIL) {
+                throw new NoSuchElementException();
+            }
+            T value = (T) SlotLinkedList.this.data[this.current];
+            this.current = SlotLinkedList.this.next[this.current];
+            return value;
+        }
+    }
+}
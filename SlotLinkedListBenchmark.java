@@ -0,0 +1,111 @@
+import java.util.Random;
+
+/**
+ * Traversal benchmark for SlotLinkedList vs SLL, in ns per element.
+ *
+ * Each list is built two ways: in order with addLast, so traversal order matches allocation order, and scattered, with
+ * each element inserted by addAfter after a randomly chosen earlier element, so neighbours in the list were allocated far
+ * apart. The scattered SlotLinkedList is timed again after compact(). Each list is walked with forEach and with an
+ * iterator, summing the elements.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java SlotLinkedListBenchmark
+ */
+public class SlotLinkedListBenchmark {
+    private static final int[] SIZES = { 10000, 1000000 };
+    private static final int WALKS = 20;
+
+    public static void main(String[] args) {
+        System.out.println("Traversal: SlotLinkedList (int[] next + Object[] data) vs SLL (NodeSL objects)");
+        System.out.println("Each figure is the best of " + WALKS + " walks, in ns per element.\n");
+        for (int n : SIZES) {
+            SLL<Integer> sllOrdered = new SLL<>();
+            SlotLinkedList<Integer> slotOrdered = new SlotLinkedList<>();
+            for (int i = 0; i < n; i++) {
+                sllOrdered.addLast(i);
+                slotOrdered.addLast(i);
+            }
+            SLL<Integer> sllScattered = scatteredSLL(n);
+            SlotLinkedList<Integer> slotScattered = scatteredSlots(n);
+
+            System.out.println("n = " + n);
+            row("in order", walkForEach(sllOrdered, n), walkIterator(sllOrdered, n), walkForEach(slotOrdered, n), walkIterator(slotOrdered, n));
+            row("scattered", walkForEach(sllScattered, n), walkIterator(sllScattered, n), walkForEach(slotScattered, n), walkIterator(slotScattered, n));
+            long start = System.nanoTime();
+            slotScattered.compact();
+            double compactMs = (System.nanoTime() - start) / 1e6;
+            row("scattered, compacted", walkForEach(sllScattered, n), walkIterator(sllScattered, n), walkForEach(slotScattered, n), walkIterator(slotScattered, n));
+            System.out.println(String.format("  compact() took %.2f ms", compactMs));
+            System.out.println();
+        }
+    }
+
+    private static void row(String label, double sllForEach, double sllIterator, double slotForEach, double slotIterator) {
+        System.out.println(String.format("  %-22s SLL forEach %5.2f, iterator %5.2f | SlotLinkedList forEach %5.2f, iterator %5.2f",
+                label, sllForEach, sllIterator, slotForEach, slotIterator));
+    }
+
+    private static SLL<Integer> scatteredSLL(int n) {
+        Random random = new Random(42);
+        SLL<Integer> list = new SLL<>();
+        @SuppressWarnings("unchecked")
+        NodeSL<Integer>[] nodes = (NodeSL<Integer>[]) new NodeSL<?>[n];
+        list.addLast(0);
+        nodes[0] = list.getHead();
+        for (int i = 1; i < n; i++) {
+            NodeSL<Integer> here = nodes[random.nextInt(i)];
+            list.addAfter(here, i);
+            nodes[i] = here.getNext();
+        }
+        return list;
+    }
+
+    private static SlotLinkedList<Integer> scatteredSlots(int n) {
+        Random random = new Random(42);
+        SlotLinkedList<Integer> list = new SlotLinkedList<>();
+        int[] slots = new int[n];
+        list.addLast(0);
+        slots[0] = list.getHead();
+        for (int i = 1; i < n; i++) {
+            int here = slots[random.nextInt(i)];
+            list.addAfter(here, i);
+            slots[i] = list.getNext(here);
+        }
+        return list;
+    }
+
+    private static double walkForEach(Iterable<Integer> list, int n) {
+        long best = Long.MAX_VALUE;
+        long[] sum = new long[1];
+        for (int w = 0; w < WALKS; w++) {
+            long start = System.nanoTime();
+            list.forEach(value -> sum[0] += value);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sum[0]);
+        return (double) best / n;
+    }
+
+    private static double walkIterator(Iterable<Integer> list, int n) {
+        long best = Long.MAX_VALUE;
+        long sum = 0;
+        for (int w = 0; w < WALKS; w++) {
+            long start = System.nanoTime();
+            for (Integer value : list) {
+                sum += value;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sum);
+        return (double) best / n;
+    }
+
+    /**
+     * Keeps the JIT from discarding the walks.
+     */
+    private static void check(long sum) {
+        if (sum == Long.MIN_VALUE) {
+            System.out.println(sum);
+        }
+    }
+}
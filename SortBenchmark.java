@@ -0,0 +1,113 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark for SLL.sort and DynamicArray.sort against the old workaround of copying an SLL into an ArrayList, sorting
+ * that, and rebuilding the SLL, on random, sorted and nearly sorted (1% of elements swapped) Integer input.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java SortBenchmark [maxN]
+ * n runs from 10^3 up to maxN (default 10^7) in powers of ten; 10^7 elements need about -Xmx2g.
+ */
+public class SortBenchmark {
+    private static final int REPS = 3;
+    private static final String[] INPUTS = { "random", "sorted", "nearly sorted" };
+
+    // Note: each timing is the best of REPS runs, each on a fresh copy of the same input.
+    public static void main(String[] args) {
+        int maxN = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        System.out.println("Sorting Integer lists in place vs copy-sort-rebuild through an ArrayList");
+        System.out.println("Each timing is the best of " + REPS + " runs, in ms.\n");
+        for (long n = 1000; n <= maxN; n *= 10) {
+            System.out.println("n = " + n);
+            for (String input : INPUTS) {
+                Integer[] values = input((int) n, input);
+                double sll = timeSLL(values);
+                double rebuild = timeRebuild(values);
+                double array = timeDynamicArray(values);
+                System.out.println(String.format("  %-14s SLL.sort %9.2f   copy-sort-rebuild %9.2f   DynamicArray.sort %9.2f",
+                        input, sll, rebuild, array));
+            }
+            System.out.println();
+        }
+    }
+
+    private static Integer[] input(int n, String input) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = input.equals("random") ? random.nextInt() : i;
+        }
+        if (input.equals("nearly sorted")) {
+            for (int k = 0; k < n / 100; k++) {
+                int i = random.nextInt(n);
+                int j = random.nextInt(n);
+                Integer swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+        return values;
+    }
+
+    private static double timeSLL(Integer[] values) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            SLL<Integer> list = new SLL<>();
+            for (Integer value : values) {
+                list.addLast(value);
+            }
+            long start = System.nanoTime();
+            list.sort(Comparator.naturalOrder());
+            best = Math.min(best, System.nanoTime() - start);
+            check(list.getHead().getData() <= list.getTail().getData());
+        }
+        return best / 1e6;
+    }
+
+    private static double timeRebuild(Integer[] values) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            SLL<Integer> list = new SLL<>();
+            for (Integer value : values) {
+                list.addLast(value);
+            }
+            long start = System.nanoTime();
+            List<Integer> copy = new ArrayList<>(list.size());
+            for (Integer value : list) {
+                copy.add(value);
+            }
+            copy.sort(Comparator.naturalOrder());
+            SLL<Integer> sorted = new SLL<>();
+            for (Integer value : copy) {
+                sorted.addLast(value);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            check(sorted.getHead().getData() <= sorted.getTail().getData());
+        }
+        return best / 1e6;
+    }
+
+    private static double timeDynamicArray(Integer[] values) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            DynamicArray<Integer> array = new DynamicArray<>(values.length);
+            for (Integer value : values) {
+                array.add(value);
+            }
+            long start = System.nanoTime();
+            array.sort(Comparator.naturalOrder());
+            best = Math.min(best, System.nanoTime() - start);
+            check(array.get(0) <= array.get(array.size() - 1));
+        }
+        return best / 1e6;
+    }
+
+    private static void check(boolean condition) {
+        if (!condition) {
+            throw new IllegalStateException("not sorted");
+        }
+    }
+}
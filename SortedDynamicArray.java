@@ -0,0 +1,300 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * A list kept in sorted order, backed by a DynamicArray. Lookups (indexOf, contains, floor, ceiling and range) use binary
+ * search and take O(log n). A single add finds its position in O(log n) but still shifts the elements after it;
+ * addAllSorted inserts a whole batch in one merge pass instead.
+ * <p>
+ * Elements that compare equal are kept in the order they were added. There is no add(index, value) or set, since either
+ * could break the order.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ */
+public class SortedDynamicArray<T> implements Iterable<T> {
+    /**
+     * The elements, in sorted order.
+     */
+    private final DynamicArray<T> elements;
+    /**
+     * The order the elements are kept in.
+     */
+    private final Comparator<? super T> order;
+
+    /**
+     * Constructs an empty SortedDynamicArray that keeps its elements in their natural ordering.
+     */
+    public SortedDynamicArray() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty SortedDynamicArray that keeps its elements in the order given by the comparator.
+     * @param order the comparator that orders the elements, or null to use their natural ordering
+     */
+    public SortedDynamicArray(Comparator<? super T> order) {
+        this(10, order);
+    }
+
+    /**
+     * Constructs an empty SortedDynamicArray with the given initial capacity.
+     * @param capacity the initial capacity of the backing array
+     * @param order the comparator that orders the elements, or null to use their natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    public SortedDynamicArray(int capacity, Comparator<? super T> order) {
+        this.elements = new DynamicArray<>(capacity);
+        this.order = order != null ? order : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.elements.size();
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.elements.isEmpty();
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        return this.elements.get(index);
+    }
+
+    /**
+     * Adds an element at its sorted position, after any elements equal to it. Finding the position takes O(log n); making
+     * room shifts the elements after it.
+     * @param value the element to add
+     * @return the index the element was added at
+     */
+    public int add(T value) {
+        int index = this.upperBound(value);
+        this.elements.add(index, value);
+        return index;
+    }
+
+    /**
+     * Adds every element of the batch at its sorted position, in one pass. The batch is copied and sorted first, then the
+     * list and the batch are merged from the back, so each existing element moves at most once and the backing array is
+     * reallocated at most once. For a batch of k elements into a list of n this takes O(k log k + n), instead of the
+     * O(k n) of k separate adds. Batch elements go after existing elements equal to them.
+     * If the comparator throws during the merge, every element is still in the list but the list may no longer be sorted.
+     * @param batch the elements to add, in any order; it is not changed
+     */
+    public void addAllSorted(DynamicArray<? extends T> batch) {
+        int k = batch.size;
+        if (k == 0) {
+            return;
+        }
+        Object[] incoming = Arrays.copyOfRange(batch.data, batch.offset, batch.offset + k);
+        @SuppressWarnings("unchecked")
+        Comparator<Object> order = (Comparator<Object>) this.order;
+        Arrays.sort(incoming, order);
+
+        DynamicArray<T> elements = this.elements;
+        int n = elements.size;
+        elements.prepareWrite(n + k);
+        T[] data = elements.data;
+        int i = n - 1;
+        int j = k - 1;
+        int write = n + k - 1;
+        try {
+            // Once the batch is used up, the existing elements still to be merged are already in place.
+            while (j >= 0) {
+                if (i >= 0 && order.compare(data[i], incoming[j]) > 0) {
+                    data[write--] = data[i--];
+                } else {
+                    @SuppressWarnings("unchecked")
+                    T value = (T) incoming[j--];
+                    data[write--] = value;
+                }
+            }
+        } finally {
+            // Only reached with j >= 0 if the comparator threw: fill the gap with the batch elements not yet placed.
+            for (; j >= 0; j--) {
+                @SuppressWarnings("unchecked")
+                T value = (T) incoming[j];
+                data[write--] = value;
+            }
+            elements.size = n + k;
+            elements.modCount++;
+        }
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        return this.elements.remove(index);
+    }
+
+    /**
+     * Removes the first element equal to the given one, if there is one.
+     * @param value the element to remove
+     * @return true if an element was removed
+     */
+    public boolean remove(T value) {
+        int index = this.indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        this.elements.remove(index);
+        return true;
+    }
+
+    /**
+     * Finds the first element equal to the given one, by binary search.
+     * @param value the element to look for
+     * @return the index of the first equal element, or -1 if there is none
+     */
+    public int indexOf(T value) {
+        int index = this.lowerBound(value);
+        if (index < this.elements.size && this.order.compare(this.elements.get(index), value) == 0) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Tests if the list holds an element equal to the given one, by binary search.
+     * @param value the element to look for
+     * @return true if there is an equal element
+     */
+    public boolean contains(T value) {
+        return this.indexOf(value) >= 0;
+    }
+
+    /**
+     * Finds the greatest element less than or equal to the given one.
+     * @param value the element to compare with
+     * @return the greatest element at most value, or null if there is none
+     */
+    public T floor(T value) {
+        int index = this.upperBound(value);
+        return index > 0 ? this.elements.get(index - 1) : null;
+    }
+
+    /**
+     * Finds the least element greater than or equal to the given one.
+     * @param value the element to compare with
+     * @return the least element at least value, or null if there is none
+     */
+    public T ceiling(T value) {
+        int index = this.lowerBound(value);
+        return index < this.elements.size ? this.elements.get(index) : null;
+    }
+
+    /**
+     * Returns the elements from from (inclusive) to to (exclusive), found by two binary searches. The result is a
+     * DynamicArray view that shares the backing array, so this takes O(log n) however many elements are in the range;
+     * like any subList view, it copies its elements out before either side is changed.
+     * @param from the least element to include
+     * @param to the element to stop before
+     * @return the elements in the range, in order
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    public DynamicArray<T> range(T from, T to) {
+        if (this.order.compare(from, to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        return this.elements.subList(this.lowerBound(from), this.lowerBound(to));
+    }
+
+    /**
+     * Counts the elements from from (inclusive) to to (exclusive), by two binary searches.
+     * @param from the least element to count
+     * @param to the element to stop before
+     * @return the number of elements in the range
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    public int countRange(T from, T to) {
+        if (this.order.compare(from, to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        return this.lowerBound(to) - this.lowerBound(from);
+    }
+
+    /**
+     * Returns the elements as a DynamicArray, in sorted order. The result is a view that shares the backing array, so this
+     * is O(1); it copies its elements out before either side is changed.
+     * @return the elements in order
+     */
+    public DynamicArray<T> toDynamicArray() {
+        return this.elements.subList(0, this.elements.size);
+    }
+
+    /**
+     * Converts the SortedDynamicArray to a string.
+     * @return SortedDynamicArray in String type
+     */
+    public String toString() {
+        return this.elements.toString();
+    }
+
+    /**
+     * Returns an iterator over the elements in sorted order. Its remove() keeps the list sorted.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return this.elements.iterator();
+    }
+
+    /**
+     * Helper method that finds the first index whose element is not less than value, by binary search.
+     * @param value the element to compare with
+     * @return the index, from 0 to size
+     */
+    private int lowerBound(T value) {
+        T[] data = this.elements.data;
+        int base = this.elements.offset;
+        int lo = 0;
+        int hi = this.elements.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.order.compare(data[base + mid], value) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Helper method that finds the first index whose element is greater than value, by binary search.
+     * @param value the element to compare with
+     * @return the index, from 0 to size
+     */
+    private int upperBound(T value) {
+        T[] data = this.elements.data;
+        int base = this.elements.offset;
+        int lo = 0;
+        int hi = this.elements.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.order.compare(data[base + mid], value) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,129 @@
+import java.util.Random;
+
+/**
+ * Ingest and lookup benchmark for SortedDynamicArray: adding a batch of random keys to a sorted list of n keys, and
+ * point lookups on the result.
+ *
+ * Batches are added three ways: the old way of a linear scan plus DynamicArray.add(index, v) per key, one
+ * SortedDynamicArray.add per key (binary search, then a shift), and one SortedDynamicArray.addAllSorted for the batch.
+ * The linear-scan way takes O(n) per key, so it is only run for n up to 10^5.
+ *
+ * Compile as described in INSTRUCTIONS.md, then run:
+ *   java SortedDynamicArrayBenchmark
+ */
+public class SortedDynamicArrayBenchmark {
+    private static final int[] SIZES = { 100000, 1000000, 4000000 };
+    private static final int BATCH = 10000;
+    private static final int LINEAR_LIMIT = 100000;
+    private static final int LOOKUPS = 1000000;
+    private static final int REPS = 3;
+
+    // Note: each timing is the best of REPS runs, each adding the same batch to a fresh copy of the same list.
+    public static void main(String[] args) {
+        System.out.println("SortedDynamicArray: adding a batch of " + BATCH + " random keys to a sorted list of n keys");
+        System.out.println("Each timing is the best of " + REPS + " runs, in ms.\n");
+        Random random = new Random(42);
+        for (int n : SIZES) {
+            SortedDynamicArray<Integer> base = new SortedDynamicArray<>(n + BATCH, null);
+            DynamicArray<Integer> keys = new DynamicArray<>(n);
+            for (int i = 0; i < n; i++) {
+                keys.add(random.nextInt());
+            }
+            base.addAllSorted(keys);
+            DynamicArray<Integer> batch = new DynamicArray<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                batch.add(random.nextInt());
+            }
+
+            String linear = n <= LINEAR_LIMIT ? String.format("%9.2f", timeLinear(base, batch)) : "        -";
+            System.out.println("n = " + n);
+            System.out.println(String.format("  linear scan + add(index)  %s   add() per key %9.2f   addAllSorted %9.2f",
+                    linear, timeAddEach(base, batch), timeAddAllSorted(base, batch)));
+            System.out.println(String.format("  lookups: indexOf %.1f ns, floor %.1f ns, countRange %.1f ns",
+                    timeLookups(base, random, 0), timeLookups(base, random, 1), timeLookups(base, random, 2)));
+            System.out.println();
+        }
+    }
+
+    private static double timeLinear(SortedDynamicArray<Integer> base, DynamicArray<Integer> batch) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            DynamicArray<Integer> list = new DynamicArray<>(base.toDynamicArray());
+            long start = System.nanoTime();
+            for (Integer key : batch) {
+                int index = 0;
+                while (index < list.size() && list.get(index) <= key) {
+                    index++;
+                }
+                list.add(index, key);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            check(list.size() == base.size() + batch.size());
+        }
+        return best / 1e6;
+    }
+
+    private static double timeAddEach(SortedDynamicArray<Integer> base, DynamicArray<Integer> batch) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            SortedDynamicArray<Integer> list = copy(base);
+            long start = System.nanoTime();
+            for (Integer key : batch) {
+                list.add(key);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            check(list.size() == base.size() + batch.size());
+        }
+        return best / 1e6;
+    }
+
+    private static double timeAddAllSorted(SortedDynamicArray<Integer> base, DynamicArray<Integer> batch) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < REPS; r++) {
+            SortedDynamicArray<Integer> list = copy(base);
+            long start = System.nanoTime();
+            list.addAllSorted(batch);
+            best = Math.min(best, System.nanoTime() - start);
+            check(list.size() == base.size() + batch.size());
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * @param kind 0 for indexOf, 1 for floor, 2 for countRange
+     * @return ns per lookup
+     */
+    private static double timeLookups(SortedDynamicArray<Integer> list, Random random, int kind) {
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int r = 0; r < REPS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                int key = random.nextInt() >> 1;
+                if (kind == 0) {
+                    sink += list.indexOf(key);
+                } else if (kind == 1) {
+                    Integer floor = list.floor(key);
+                    sink += floor == null ? 0 : floor;
+                } else {
+                    sink += list.countRange(key, key + 1000);
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        check(sink != Long.MIN_VALUE);
+        return (double) best / LOOKUPS;
+    }
+
+    private static SortedDynamicArray<Integer> copy(SortedDynamicArray<Integer> base) {
+        SortedDynamicArray<Integer> list = new SortedDynamicArray<>(base.size() + BATCH, null);
+        list.addAllSorted(base.toDynamicArray());
+        return list;
+    }
+
+    private static void check(boolean condition) {
+        if (!condition) {
+            throw new IllegalStateException("wrong result");
+        }
+    }
+}
@@ -1,8 +1,12 @@
+import java.lang.ref.Reference;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+
 /**
  * Simple benchmark for comparing copy vs transfer split operations.
  *
  * Run:
- *   javac $(ls *.java | grep -v 'Test\\.java$')
+ *   javac $(ls *.java | grep -v 'Test\.java$')
  *   java Timer
  */
 public class Timer {
@@ -21,24 +25,67 @@ public class Timer {
 
             DynamicArray<Integer> darr = buildDynamicArray(n);
             SLL<Integer> sll = buildSLL(n);
+            CircularDynamicArray<Integer> ring = buildCircularDynamicArray(n);
+            UnrolledList<Integer> unrolled = buildUnrolledList(n);
+            RopeList<Integer> rope = buildRopeList(n);
 
             warmup(darr, sll);
 
             long darrGet = timeGet(darr, REPS);
             long sllGet = timeGet(sll, REPS);
+            timeGet(unrolled, WARMUP);
+            long unrolledGet = timeGet(unrolled, REPS);
             long darrAdd0 = timeAddRemoveZero(darr, REPS);
             long sllAdd0 = timeAddRemoveZero(sll, REPS);
+            timeAddRemoveZero(ring, WARMUP);
+            long ringAdd0 = timeAddRemoveZero(ring, REPS);
             long darrCopy = timeSplitCopy(darr, REPS);
             long sllCopy = timeSplitCopy(sll, REPS);
             long darrTransfer = timeSplitTransfer(darr, REPS);
             long sllTransfer = timeSplitTransfer(sll, REPS);
+            timeSplitCopy(rope, WARMUP);
+            timeSplitTransfer(rope, WARMUP);
+            long ropeCopy = timeSplitCopy(rope, REPS);
+            long ropeTransfer = timeSplitTransfer(rope, REPS);
 
-            System.out.println("  get(mid):          DynamicArray " + darrGet + " ns/op, SLL " + sllGet + " ns/op");
-            System.out.println("  add+remove(0):     DynamicArray " + darrAdd0 + " ns/op, SLL " + sllAdd0 + " ns/op");
-            System.out.println("  splitCopy(index):  DynamicArray " + darrCopy + " ns/op, SLL " + sllCopy + " ns/op");
-            System.out.println("  splitTransfer(idx):DynamicArray " + darrTransfer + " ns/op, SLL " + sllTransfer + " ns/op");
+            System.out.println("  get(mid):          DynamicArray " + darrGet + " ns/op, SLL " + sllGet + " ns/op, UnrolledList " + unrolledGet + " ns/op");
+            System.out.println("  add+remove(0):     DynamicArray " + darrAdd0 + " ns/op, SLL " + sllAdd0 + " ns/op, CircularDynamicArray " + ringAdd0 + " ns/op");
+            System.out.println("  splitCopy(index):  DynamicArray " + darrCopy + " ns/op, SLL " + sllCopy + " ns/op, RopeList " + ropeCopy + " ns/op");
+            System.out.println("  splitTransfer(idx):DynamicArray " + darrTransfer + " ns/op, SLL " + sllTransfer + " ns/op, RopeList " + ropeTransfer + " ns/op");
             System.out.println();
         }
+
+        System.out.println("Boxed vs primitive DynamicArray");
+        System.out.println("Memory is retained heap per element; get is a full index sweep, averaged per element.\n");
+        for (int n : SIZES) {
+            comparePrimitive(n);
+        }
+    }
+
+    private static void comparePrimitive(int n) {
+        DynamicArray<Integer> boxedInts = buildDynamicArray(n);
+        DynamicArray<Long> boxedLongs = buildLongDynamicArray(n);
+        DynamicArray<Double> boxedDoubles = buildDoubleDynamicArray(n);
+        IntDynamicArray ints = buildIntDynamicArray(n);
+        LongDynamicArray longs = buildLongPrimitiveArray(n);
+        DoubleDynamicArray doubles = buildDoublePrimitiveArray(n);
+
+        System.out.println("n = " + n);
+        System.out.println("  int:    DynamicArray<Integer> " + bytesPerElement(() -> buildDynamicArray(n), n) + " B/elem, "
+                + timeSweep(boxedInts::get, n) + " ns/op; IntDynamicArray " + bytesPerElement(() -> buildIntDynamicArray(n), n)
+                + " B/elem, " + timeSweep(ints::get, n) + " ns/op");
+        System.out.println("  long:   DynamicArray<Long> " + bytesPerElement(() -> buildLongDynamicArray(n), n) + " B/elem, "
+                + timeSweep(boxedLongs::get, n) + " ns/op; LongDynamicArray " + bytesPerElement(() -> buildLongPrimitiveArray(n), n)
+                + " B/elem, " + timeSweep(longs::get, n) + " ns/op");
+        System.out.println("  double: DynamicArray<Double> " + bytesPerElement(() -> buildDoubleDynamicArray(n), n) + " B/elem, "
+                + timeSweep(boxedDoubles::get, n) + " ns/op; DoubleDynamicArray " + bytesPerElement(() -> buildDoublePrimitiveArray(n), n)
+                + " B/elem, " + timeSweep(doubles::get, n) + " ns/op");
+        try (OffHeapDynamicArray<Long> offHeapLongs = buildOffHeapLongArray(n)) {
+            // Heap bytes only: the elements themselves live in native memory.
+            System.out.println("  long:   OffHeapDynamicArray " + bytesPerElement(() -> buildOffHeapLongArray(n), n) + " heap B/elem, "
+                    + timeSweep(offHeapLongs::get, n) + " ns/op");
+        }
+        System.out.println();
     }
 
     private static DynamicArray<Integer> buildDynamicArray(int n) {
@@ -49,6 +96,78 @@ public class Timer {
         return arr;
     }
 
+    private static CircularDynamicArray<Integer> buildCircularDynamicArray(int n) {
+        CircularDynamicArray<Integer> arr = new CircularDynamicArray<>();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, i);
+        }
+        return arr;
+    }
+
+    private static UnrolledList<Integer> buildUnrolledList(int n) {
+        UnrolledList<Integer> list = new UnrolledList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i, i);
+        }
+        return list;
+    }
+
+    private static RopeList<Integer> buildRopeList(int n) {
+        RopeList<Integer> list = new RopeList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i, i);
+        }
+        return list;
+    }
+
+    private static OffHeapDynamicArray<Long> buildOffHeapLongArray(int n) {
+        OffHeapDynamicArray<Long> arr = new OffHeapDynamicArray<>(ElementCodec.LONG);
+        for (int i = 0; i < n; i++) {
+            arr.add(i, (long) i);
+        }
+        return arr;
+    }
+
+    private static DynamicArray<Long> buildLongDynamicArray(int n) {
+        DynamicArray<Long> arr = new DynamicArray<>();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, (long) i);
+        }
+        return arr;
+    }
+
+    private static DynamicArray<Double> buildDoubleDynamicArray(int n) {
+        DynamicArray<Double> arr = new DynamicArray<>();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, (double) i);
+        }
+        return arr;
+    }
+
+    private static IntDynamicArray buildIntDynamicArray(int n) {
+        IntDynamicArray arr = new IntDynamicArray();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, i);
+        }
+        return arr;
+    }
+
+    private static LongDynamicArray buildLongPrimitiveArray(int n) {
+        LongDynamicArray arr = new LongDynamicArray();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, i);
+        }
+        return arr;
+    }
+
+    private static DoubleDynamicArray buildDoublePrimitiveArray(int n) {
+        DoubleDynamicArray arr = new DoubleDynamicArray();
+        for (int i = 0; i < n; i++) {
+            arr.add(i, i);
+        }
+        return arr;
+    }
+
     private static SLL<Integer> buildSLL(int n) {
         SLL<Integer> list = new SLL<>();
         for (int i = 0; i < n; i++) {
@@ -68,6 +187,46 @@ public class Timer {
         timeSplitTransfer(list, WARMUP);
     }
 
+    // Heap retained by built lists, measured as the change in used memory across a GC.
+    // Enough copies are kept alive to cover about 2M elements so GC granularity does not swamp small lists.
+    private static long bytesPerElement(Supplier<Object> builder, int n) {
+        Runtime rt = Runtime.getRuntime();
+        Object[] lists = new Object[Math.max(1, 2_000_000 / n)];
+        System.gc();
+        long before = rt.totalMemory() - rt.freeMemory();
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = builder.get();
+        }
+        System.gc();
+        long after = rt.totalMemory() - rt.freeMemory();
+        Reference.reachabilityFence(lists);
+        return Math.max(0, after - before) / ((long) lists.length * n);
+    }
+
+    private static long timeSweep(IntToDoubleFunction get, int n) {
+        for (int w = 0; w < WARMUP / 10; w++) {
+            sweep(get, n);
+        }
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < REPS / 10; i++) {
+            sink += sweep(get, n);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / ((long) (REPS / 10) * n);
+    }
+
+    private static double sweep(IntToDoubleFunction get, int n) {
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += get.applyAsDouble(i);
+        }
+        return sum;
+    }
+
     private static long timeGet(DynamicArray<Integer> arr, int reps) {
         int idx = arr.size() / 2;
         long sink = 0;
@@ -82,7 +241,23 @@ public class Timer {
         return elapsed / reps;
     }
 
+    // get(0) moves SLL's cached cursor back to the head, so each get(idx) walks from there rather than resuming at idx.
     private static long timeGet(SLL<Integer> list, int reps) {
+        int idx = list.size() / 2;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            sink += list.get(0);
+            sink += list.get(idx);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / reps;
+    }
+
+    private static long timeGet(UnrolledList<Integer> list, int reps) {
         int idx = list.size() / 2;
         long sink = 0;
         long start = System.nanoTime();
@@ -106,6 +281,16 @@ public class Timer {
         return elapsed / reps;
     }
 
+    private static long timeAddRemoveZero(CircularDynamicArray<Integer> arr, int reps) {
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            arr.add(0, -1);
+            arr.remove(0);
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / reps;
+    }
+
     private static long timeAddRemoveZero(SLL<Integer> list, int reps) {
         long start = System.nanoTime();
         for (int i = 0; i < reps; i++) {
@@ -146,6 +331,38 @@ public class Timer {
         return elapsed / reps;
     }
 
+    private static long timeSplitCopy(RopeList<Integer> list, int reps) {
+        int index = list.size() / 2;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            RopeList<Integer> out = list.splitCopy(index);
+            sink += out.size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / reps;
+    }
+
+    // A RopeList copy shares the original tree in O(1), so each rep splits a fresh copy without a rebuild.
+    private static long timeSplitTransfer(RopeList<Integer> list, int reps) {
+        int index = list.size() / 2;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reps; i++) {
+            RopeList<Integer> fresh = new RopeList<>(list);
+            RopeList<Integer> out = fresh.splitTransfer(index);
+            sink += out.size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return elapsed / reps;
+    }
+
     private static long timeSplitTransfer(DynamicArray<Integer> arr, int reps) {
         int index = arr.size() / 2;
         long sink = 0;
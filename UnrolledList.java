@@ -0,0 +1,571 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Class to implement an unrolled linked list. Each node (a chunk) holds a small array of elements
+ * instead of a single element, so the list allocates about one object per chunk rather than one per
+ * element, and walking the list touches mostly contiguous memory. A full chunk is split in half when
+ * an element is inserted into it, and a chunk that drops below a quarter full is merged with the
+ * chunk after it when they fit together.
+ *
+ * @param <T> The generic class T can hold any object type such as Integer, String, etc.
+ * @author Michelle Jiang
+ * @version Spring 2026
+ */
+public class UnrolledList<T> implements ListADT<T>, Iterable<T> {
+
+    /**
+     * The number of elements each chunk holds when no capacity is given.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    /**
+     * The first chunk of the list. If the list is empty, head is null.
+     */
+    Chunk<T> head;
+    /**
+     * The last chunk of the list. If the list is empty, tail is null.
+     */
+    Chunk<T> tail;
+    /**
+     * The number of elements in the list.
+     */
+    int size;
+    /**
+     * The number of elements each chunk can hold.
+     */
+    private final int chunkCapacity;
+
+    /**
+     * Constructor to create an empty list whose chunks hold DEFAULT_CHUNK_CAPACITY elements.
+     */
+    public UnrolledList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructor to create an empty list with the given chunk capacity.
+     * @param chunkCapacity the number of elements each chunk holds
+     * @throws IllegalArgumentException if chunkCapacity is less than 4
+     */
+    public UnrolledList(int chunkCapacity) {
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    /** Copy Constructor
+     * @param other the UnrolledList to be copied
+     */
+    public UnrolledList(UnrolledList<T> other) {
+        this(other.chunkCapacity);
+        for (Chunk<T> chunk = other.head; chunk != null; chunk = chunk.next) {
+            this.linkLast(chunk.copyRange(0, this.chunkCapacity));
+        }
+        this.size = other.size;
+    }
+
+    /**
+     * Queries number of elements in list. If empty, returns zero.
+     * @return size of list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tests if a list is empty or not.
+     * @return true if empty, false if has elements
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Accesses element at a given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return value at specified index
+     */
+    public T get(int index) {
+        checkIndex(index);
+        Chunk<T> chunk = this.head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        return chunk.get(index);
+    }
+
+    /**
+     * Sets the value at the given index
+     * @param index the index whose value is changed
+     * @param value the value to change the index to
+     * @return the item that was previously at this position
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     */
+    public T set(int index, T value) {
+        checkIndex(index);
+        Chunk<T> chunk = this.head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        T prevValue = chunk.get(index);
+        chunk.items[index] = value;
+        return prevValue;
+    }
+
+    /**
+     * Adds element to existing list. Only the elements after it in the same chunk are shifted.
+     * @param index of where the new element should be added
+     * @param value the element to be added to the ListADT object
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == this.size) {
+            this.addLast(value);
+            return;
+        }
+        Chunk<T> chunk = this.head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        this.insertInto(chunk, index, value);
+    }
+
+    /**
+     * Removes item from list at given index.
+     * @param index the index to query
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than or equal to the size of the list
+     * @return the element at the index specified
+     */
+    public T remove(int index) {
+        checkIndex(index);
+        Chunk<T> prev = null;
+        Chunk<T> chunk = this.head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            prev = chunk;
+            chunk = chunk.next;
+        }
+        return this.removeFrom(prev, chunk, index);
+    }
+
+    /**
+     * Gets the head (first chunk) of the list.
+     * @return the head chunk of the list, or null if the list is empty
+     */
+    public Chunk<T> getHead() {
+        return this.head;
+    }
+
+    /**
+     * Gets the tail (last chunk) of the list.
+     * @return the tail chunk of the list, or null if the list is empty
+     */
+    public Chunk<T> getTail() {
+        return this.tail;
+    }
+
+    /**
+     * Adds element to the front of the list.
+     * @param value the element to be added to the front of the list
+     */
+    public void addFirst(T value) {
+        if (this.head == null) {
+            this.addLast(value);
+            return;
+        }
+        this.insertInto(this.head, 0, value);
+    }
+
+    /**
+     * Adds element to the end of the list. When the tail chunk is full a new, empty chunk is started instead of splitting it, so a list built with addLast has full chunks.
+     * @param value the element to be added to the end of the list
+     */
+    public void addLast(T value) {
+        if (this.tail == null || this.tail.count == this.chunkCapacity) {
+            this.linkLast(new Chunk<T>(this.chunkCapacity));
+        }
+        this.tail.items[this.tail.count++] = value;
+        this.size++;
+    }
+
+    /**
+     * Removes the first element from the list.
+     * @return the original first element
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeFirst() {
+        if (this.head == null) {
+            throw new IllegalStateException();
+        }
+        return this.removeFrom(null, this.head, 0);
+    }
+
+    /**
+     * Removes the last element from the list. Finding the chunk before the tail walks the chunks, not the elements.
+     * @return the original last element
+     * @throws IllegalStateException if the list is empty
+     */
+    public T removeLast() {
+        if (this.head == null) {
+            throw new IllegalStateException();
+        }
+        Chunk<T> prev = null;
+        if (this.tail.count == 1) {
+            prev = this.head;
+            while (prev != null && prev.next != this.tail) {
+                prev = prev.next;
+            }
+        }
+        return this.removeFrom(prev, this.tail, this.tail.count - 1);
+    }
+
+    /**
+     * Adds element after the element at the given offset of the given chunk.
+     * If chunk is null, insert at the head.
+     * A chunk and offset handle is only valid until the next insert or removal, which may split or merge chunks.
+     * @param chunk the chunk holding the element to insert after
+     * @param offset the position of that element within the chunk
+     * @param value the element to be added
+     * @throws IndexOutOfBoundsException if offset is not a position in the chunk
+     */
+    public void addAfter(Chunk<T> chunk, int offset, T value) {
+        if (chunk == null) {
+            this.addFirst(value);
+            return;
+        }
+        chunk.checkOffset(offset);
+        this.insertInto(chunk, offset + 1, value);
+    }
+
+    /**
+     * Removes the element after the element at the given offset of the given chunk.
+     * If chunk is null, remove the first element.
+     * @param chunk the chunk holding the element to remove after
+     * @param offset the position of that element within the chunk
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if offset is not a position in the chunk
+     * @throws IllegalStateException if there is no element after the given one
+     */
+    public T removeAfter(Chunk<T> chunk, int offset) {
+        if (chunk == null) {
+            return this.removeFirst();
+        }
+        chunk.checkOffset(offset);
+        if (offset + 1 < chunk.count) {
+            return this.removeFrom(null, chunk, offset + 1);
+        }
+        if (chunk.next == null) {
+            throw new IllegalStateException();
+        }
+        return this.removeFrom(chunk, chunk.next, 0);
+    }
+
+    /**
+     * Splits the list into two lists at a given index. The original list remains unchanged, and the new list contains the elements from index to size-1 copied chunk by chunk.
+     * @param index the index at which to split the list
+     * @return a new UnrolledList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public UnrolledList<T> splitCopy(int index) {
+        checkSplitIndex(index);
+        UnrolledList<T> newList = new UnrolledList<T>(this.chunkCapacity);
+        if (index == this.size) {
+            return newList;
+        }
+        Chunk<T> chunk = this.head;
+        int offset = index;
+        while (offset >= chunk.count) {
+            offset -= chunk.count;
+            chunk = chunk.next;
+        }
+        newList.linkLast(chunk.copyRange(offset, this.chunkCapacity));
+        for (chunk = chunk.next; chunk != null; chunk = chunk.next) {
+            newList.linkLast(chunk.copyRange(0, this.chunkCapacity));
+        }
+        newList.size = this.size - index;
+        return newList;
+    }
+
+    /**
+     * Splits the list into two lists at a given index. The original list keeps the elements from index 0 to index-1, and the new list takes the elements from index to size-1. Whole chunks are relinked; only the chunk containing the index is split.
+     * @param index the index at which to split the list
+     * @return a new UnrolledList containing the elements from index to size-1
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater than the size of the list
+     */
+    public UnrolledList<T> splitTransfer(int index) {
+        checkSplitIndex(index);
+        UnrolledList<T> newList = new UnrolledList<T>(this.chunkCapacity);
+        if (index == this.size) {
+            return newList;
+        }
+        Chunk<T> prev = null;
+        Chunk<T> chunk = this.head;
+        int offset = index;
+        while (offset >= chunk.count) {
+            offset -= chunk.count;
+            prev = chunk;
+            chunk = chunk.next;
+        }
+        if (offset > 0) {
+            Chunk<T> rest = chunk.copyRange(offset, this.chunkCapacity);
+            Arrays.fill(chunk.items, offset, chunk.count, null);
+            chunk.count = offset;
+            rest.next = chunk.next;
+            prev = chunk;
+            chunk = rest;
+        }
+        newList.head = chunk;
+        newList.tail = (this.tail == prev) ? chunk : this.tail;
+        newList.size = this.size - index;
+        if (prev == null) {
+            this.head = null;
+        } else {
+            prev.next = null;
+        }
+        this.tail = prev;
+        this.size = index;
+        return newList;
+    }
+
+    /**
+     * Converts the list to a string.
+     * @return list in String type
+     */
+    public String toString() {
+        StringBuilder returnString = new StringBuilder("[");
+        for (Chunk<T> chunk = this.head; chunk != null; chunk = chunk.next) {
+            for (int i=0; i<chunk.count; i++) {
+                if (returnString.length() > 1) {
+                    returnString.append(", ");
+                }
+                returnString.append(chunk.items[i]);
+            }
+        }
+        returnString.append("]");
+        return returnString.toString();
+    }
+
+    /**
+     * Helper method that inserts a value at the given offset of a chunk, splitting the chunk in half first if it is full.
+     * @param chunk the chunk to insert into
+     * @param offset the position within the chunk, from 0 to chunk.count
+     * @param value the value to insert
+     */
+    private void insertInto(Chunk<T> chunk, int offset, T value) {
+        if (chunk.count == this.chunkCapacity) {
+            int half = this.chunkCapacity / 2;
+            Chunk<T> upper = chunk.copyRange(half, this.chunkCapacity);
+            Arrays.fill(chunk.items, half, chunk.count, null);
+            chunk.count = half;
+            this.linkAfter(chunk, upper);
+            if (offset > half) {
+                chunk = upper;
+                offset -= half;
+            }
+        }
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = value;
+        chunk.count++;
+        this.size++;
+    }
+
+    /**
+     * Helper method that removes the value at the given offset of a chunk. An emptied chunk is unlinked, and a chunk that drops below a quarter full absorbs the next chunk if their elements fit in one chunk.
+     * @param prev the chunk before chunk, or null if chunk is the head or is known not to become empty
+     * @param chunk the chunk to remove from
+     * @param offset the position within the chunk
+     * @return the removed value
+     */
+    private T removeFrom(Chunk<T> prev, Chunk<T> chunk, int offset) {
+        T data = chunk.get(offset);
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.items[--chunk.count] = null;
+        this.size--;
+        if (chunk.count == 0) {
+            if (prev == null) {
+                this.head = chunk.next;
+            } else {
+                prev.next = chunk.next;
+            }
+            if (this.tail == chunk) {
+                this.tail = prev;
+            }
+        } else if (chunk.count < this.chunkCapacity / 4 && chunk.next != null
+                && chunk.count + chunk.next.count <= this.chunkCapacity) {
+            Chunk<T> absorbed = chunk.next;
+            System.arraycopy(absorbed.items, 0, chunk.items, chunk.count, absorbed.count);
+            chunk.count += absorbed.count;
+            chunk.next = absorbed.next;
+            if (this.tail == absorbed) {
+                this.tail = chunk;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Helper method that links a chunk after the tail without changing size.
+     * @param chunk the chunk to link
+     */
+    private void linkLast(Chunk<T> chunk) {
+        if (this.tail == null) {
+            this.head = chunk;
+        } else {
+            this.tail.next = chunk;
+        }
+        this.tail = chunk;
+    }
+
+    /**
+     * Helper method that links a new chunk directly after an existing one without changing size.
+     * @param chunk the chunk already in the list
+     * @param added the chunk to link after it
+     */
+    private void linkAfter(Chunk<T> chunk, Chunk<T> added) {
+        added.next = chunk.next;
+        chunk.next = added;
+        if (this.tail == chunk) {
+            this.tail = added;
+        }
+    }
+
+    /**
+     * Checks if the given index is valid for accessing or modifying the list. If the index is out of bounds, an IndexOutOfBoundsException is thrown.
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks if the given index is a valid split point (0 to size inclusive).
+     * @param index the index to check
+     */
+    private void checkSplitIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an iterator for the list. The iterator walks each chunk's array in order from head to tail.
+     * @return an iterator for the list
+     */
+    public Iterator<T> iterator() {
+        return new UnrolledListIterator();
+    }
+
+    /**
+     * Private inner class to implement the iterator for the UnrolledList.
+     */
+    private class UnrolledListIterator implements Iterator<T> {
+        // Chunk the iterator is in, and the position of the next element within it.
+        private Chunk<T> current = UnrolledList.this.head;
+        private int offset = 0;
+
+        /**
+         * Returns true if there are more elements to iterate through, false otherwise.
+         * @return true if there are more elements to iterate through, false otherwise
+         */
+        public boolean hasNext() {
+            return this.current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration and advances the iterator. If there are no more elements to iterate through, throws a NoSuchElementException.
+         * @return the next element in the iteration
+         */
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T data = this.current.get(this.offset++);
+            if (this.offset == this.current.count) {
+                this.current = this.current.next;
+                this.offset = 0;
+            }
+            return data;
+        }
+    }
+
+    /**
+     * A node of an UnrolledList, holding up to the list's chunk capacity elements in an array.
+     *
+     * @param <T> the element type
+     */
+    public static class Chunk<T> {
+        /** The elements of this chunk, in positions 0 to count-1 */
+        private final Object[] items;
+        /** The number of elements in this chunk */
+        private int count;
+        /** Link to the next chunk */
+        private Chunk<T> next;
+
+        /**
+         * A constructor for an empty chunk.
+         * @param capacity the number of elements the chunk can hold
+         */
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        /** @return number of elements in this chunk */
+        public int count() {
+            return this.count;
+        }
+
+        /**
+         * @param offset position within this chunk
+         * @return the element at that position
+         * @throws IndexOutOfBoundsException if offset is not a position in the chunk
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int offset) {
+            checkOffset(offset);
+            return (T) this.items[offset];
+        }
+
+        /** @return next chunk */
+        public Chunk<T> getNext() {
+            return this.next;
+        }
+
+        /**
+         * Checks that offset is the position of an element in this chunk.
+         * @param offset the offset to check
+         */
+        private void checkOffset(int offset) {
+            if (offset < 0 || offset >= this.count) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        /**
+         * Copies the elements from offset to the end of this chunk into a new, unlinked chunk.
+         * @param offset the first position to copy
+         * @param capacity the capacity of the new chunk
+         * @return the new chunk
+         */
+        private Chunk<T> copyRange(int offset, int capacity) {
+            Chunk<T> copy = new Chunk<T>(capacity);
+            copy.count = this.count - offset;
+            System.arraycopy(this.items, offset, copy.items, 0, copy.count);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package lists;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmarks for the ListADT and node operations of DynamicArray and SLL. Operations that take an index are measured
+ * at the head, middle and tail of the list (the Positional state); the rest only vary with list size and element type
+ * (the WholeList state). Operations that change the size are paired with their inverse (add with remove, splitTransfer
+ * with a rejoin), so the list is the same size at every call.
+ *
+ * Build and run from the repository root:
+ *   mvn -B -f jmh/pom.xml package
+ *   java -jar jmh/target/benchmarks.jar [JMH options] [benchmark regex]
+ * for example -p size=1000,10000 -p position=mid -p type=Integer. Unless told otherwise with -prof or -rf, the GC
+ * profiler is on and results are written to jmh-result.json.
+ *
+ * @author Michelle Jiang
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ListBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+
+    /**
+     * A DynamicArray and an SLL of size elements, and the index that position names.
+     */
+    @State(Scope.Thread)
+    public static class Positional {
+        @Param({ "1000", "10000", "100000" })
+        public int size;
+        @Param({ "head", "mid", "tail" })
+        public String position;
+        @Param({ "Integer", "String" })
+        public String type;
+
+        DynamicArray<Object> array;
+        SLL<Object> sll;
+        NodeSL<Object> node;
+        int index;
+        Object value;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.array = buildDynamicArray(this.size, this.type);
+            this.sll = buildSLL(this.size, this.type);
+            this.index = index(this.size, this.position);
+            this.node = this.sll.getNode(this.index);
+            this.value = element(this.type).apply(-1);
+        }
+    }
+
+    /**
+     * A DynamicArray and an SLL of size elements.
+     */
+    @State(Scope.Thread)
+    public static class WholeList {
+        @Param({ "1000", "10000", "100000" })
+        public int size;
+        @Param({ "Integer", "String" })
+        public String type;
+
+        DynamicArray<Object> array;
+        SLL<Object> sll;
+        Object value;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.array = buildDynamicArray(this.size, this.type);
+            this.sll = buildSLL(this.size, this.type);
+            this.value = element(this.type).apply(-1);
+        }
+    }
+
+    @Benchmark
+    public Object dynamicArrayGet(Positional s) {
+        return s.array.get(s.index);
+    }
+
+    @Benchmark
+    public Object dynamicArraySet(Positional s) {
+        return s.array.set(s.index, s.value);
+    }
+
+    @Benchmark
+    public Object dynamicArrayAddRemove(Positional s) {
+        s.array.add(s.index, s.value);
+        return s.array.remove(s.index);
+    }
+
+    @Benchmark
+    public Object dynamicArraySplitCopy(Positional s) {
+        return s.array.splitCopy(s.index);
+    }
+
+    @Benchmark
+    public Object dynamicArraySplitTransfer(Positional s) {
+        DynamicArray<Object> suffix = s.array.splitTransfer(s.index);
+        s.array.insertAll(s.array.size(), suffix);
+        return suffix;
+    }
+
+    @Benchmark
+    public int dynamicArraySize(WholeList s) {
+        return s.array.size();
+    }
+
+    @Benchmark
+    public boolean dynamicArrayIsEmpty(WholeList s) {
+        return s.array.isEmpty();
+    }
+
+    @Benchmark
+    public void dynamicArrayIterate(WholeList s, Blackhole bh) {
+        for (Object value : s.array) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void dynamicArrayForEach(WholeList s, Blackhole bh) {
+        s.array.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long dynamicArrayStreamSum(WholeList s) {
+        return s.array.stream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public long dynamicArrayParallelStreamSum(WholeList s) {
+        return s.array.parallelStream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public int dynamicArrayCopyRemoveIfHalf(WholeList s) {
+        DynamicArray<Object> copy = new DynamicArray<>(s.array);
+        copy.removeIf(value -> (value.hashCode() & 1) == 0);
+        return copy.size();
+    }
+
+    // get(0) moves SLL's cached cursor back to the head, so each get(index), set(index) and add(index) walks from there
+    // instead of resuming near index, where the previous call left the cursor. get(0) itself walks no nodes.
+
+    @Benchmark
+    public Object sllGet(Positional s, Blackhole bh) {
+        bh.consume(s.sll.get(0));
+        return s.sll.get(s.index);
+    }
+
+    @Benchmark
+    public Object sllSet(Positional s, Blackhole bh) {
+        bh.consume(s.sll.get(0));
+        return s.sll.set(s.index, s.value);
+    }
+
+    @Benchmark
+    public Object sllAddRemove(Positional s, Blackhole bh) {
+        bh.consume(s.sll.get(0));
+        s.sll.add(s.index, s.value);
+        return s.sll.remove(s.index);
+    }
+
+    @Benchmark
+    public Object sllAddAfterRemoveAfter(Positional s) {
+        s.sll.addAfter(s.node, s.value);
+        return s.sll.removeAfter(s.node);
+    }
+
+    @Benchmark
+    public Object sllSplitCopy(Positional s) {
+        return s.sll.splitCopy(s.index);
+    }
+
+    @Benchmark
+    public int sllSplitTransfer(Positional s) {
+        SLL<Object> suffix = s.sll.splitTransfer(s.index);
+        int moved = suffix.size();
+        s.sll.concat(suffix);
+        return moved;
+    }
+
+    @Benchmark
+    public int sllSize(WholeList s) {
+        return s.sll.size();
+    }
+
+    @Benchmark
+    public boolean sllIsEmpty(WholeList s) {
+        return s.sll.isEmpty();
+    }
+
+    @Benchmark
+    public void sllIterate(WholeList s, Blackhole bh) {
+        for (Object value : s.sll) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void sllForEach(WholeList s, Blackhole bh) {
+        s.sll.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long sllStreamSum(WholeList s) {
+        return s.sll.stream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public long sllParallelStreamSum(WholeList s) {
+        return s.sll.parallelStream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public int sllCopyRemoveIfHalf(WholeList s) {
+        SLL<Object> copy = new SLL<>(s.sll);
+        copy.removeIf(value -> (value.hashCode() & 1) == 0);
+        return copy.size();
+    }
+
+    @Benchmark
+    public Object sllGetHead(WholeList s) {
+        return s.sll.getHead();
+    }
+
+    @Benchmark
+    public Object sllGetTail(WholeList s) {
+        return s.sll.getTail();
+    }
+
+    @Benchmark
+    public Object sllAddFirstRemoveFirst(WholeList s) {
+        s.sll.addFirst(s.value);
+        return s.sll.removeFirst();
+    }
+
+    @Benchmark
+    public Object sllAddLastRemoveLast(WholeList s) {
+        s.sll.addLast(s.value);
+        return s.sll.removeLast();
+    }
+
+    /**
+     * @param n the list size
+     * @param position head, mid or tail
+     * @return the index the position names
+     */
+    static int index(int n, String position) {
+        switch (position) {
+            case "head":
+                return 0;
+            case "mid":
+                return n / 2;
+            case "tail":
+                return n - 1;
+            default:
+                throw new IllegalArgumentException(position);
+        }
+    }
+
+    /**
+     * @param type Integer or String
+     * @return a function mapping i to the i-th element value of that type
+     */
+    static IntFunction<Object> element(String type) {
+        switch (type) {
+            case "Integer":
+                return i -> i;
+            case "String":
+                return i -> "value-" + i;
+            default:
+                throw new IllegalArgumentException(type);
+        }
+    }
+
+    static DynamicArray<Object> buildDynamicArray(int n, String type) {
+        IntFunction<Object> element = element(type);
+        DynamicArray<Object> list = new DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(element.apply(i));
+        }
+        return list;
+    }
+
+    static SLL<Object> buildSLL(int n, String type) {
+        IntFunction<Object> element = element(type);
+        SLL<Object> list = new SLL<>();
+        for (int i = 0; i < n; i++) {
+            list.addLast(element.apply(i));
+        }
+        return list;
+    }
+}